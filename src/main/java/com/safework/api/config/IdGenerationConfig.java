@@ -0,0 +1,20 @@
+package com.safework.api.config;
+
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
+import com.safework.api.domain.util.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exposes the process-wide id allocator to code that inserts rows without Hibernate (e.g. the bulk asset import).
+ * It is the same instance Hibernate's {@link TimeOrderedIdGenerator} uses, so JDBC and JPA inserts never collide.
+ */
+@Configuration
+public class IdGenerationConfig {
+
+    @Bean
+    public TimeOrderedIdAllocator idAllocator(@Value("${spring.jpa.properties." + TimeOrderedIdGenerator.NODE_ID_SETTING + ":0}") int nodeId) {
+        return TimeOrderedIdAllocator.forNode(nodeId);
+    }
+}
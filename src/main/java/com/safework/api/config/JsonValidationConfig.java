@@ -0,0 +1,20 @@
+package com.safework.api.config;
+
+import com.safework.api.domain.util.JsonValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Applies the configured limits for JSON columns to {@link JsonValidator}, which entities call from setters and
+ * lifecycle hooks and so cannot have them injected.
+ */
+@Configuration
+public class JsonValidationConfig {
+
+    public JsonValidationConfig(@Value("${safework.json.max-depth:32}") int maxDepth,
+                                @Value("${safework.json.max-keys:10000}") int maxKeys,
+                                @Value("${safework.json.max-size:1MB}") DataSize maxSize) {
+        JsonValidator.configure(new JsonValidator.Limits(maxDepth, maxKeys, maxSize.toBytes()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.safework.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated, bounded executor for password verification.
+ * BCrypt is deliberately CPU-expensive, so logins run here instead of on Tomcat request threads.
+ * When both the pool and its queue are full, new submissions are rejected and the login is shed with a 503.
+ * Queue depth and pool usage are exported as the "login" executor in Micrometer.
+ *
+ * Password rehashing after a login gets its own single thread, so upgrades use at most one core and never delay a login.
+ */
+@Configuration
+public class LoginExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService loginExecutor(MeterRegistry meterRegistry,
+                                         @Value("${safework.security.login.threads:0}") int threads,
+                                         @Value("${safework.security.login.queue-capacity:100}") int queueCapacity) {
+        // 0 means one thread per core, which is all a CPU-bound hash can use anyway
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("login-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "login");
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordRehashExecutor(MeterRegistry meterRegistry,
+                                                  @Value("${safework.security.password.rehash-queue-capacity:1000}") int queueCapacity) {
+        // A dropped upgrade is simply retried on the user's next login
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-rehash-"),
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-rehash");
+    }
+}
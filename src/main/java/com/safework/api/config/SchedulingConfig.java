@@ -0,0 +1,12 @@
+package com.safework.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. sync feed compaction).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,9 +2,12 @@ package com.safework.api.config;
 
 
 import com.safework.api.security.AuthEntryPoint;
+import com.safework.api.security.BcryptCostCalibrator;
 import com.safework.api.security.JwtAuthenticationFilter;
 import com.safework.api.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,6 +21,8 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -25,6 +30,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -36,17 +42,41 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final AuthEntryPoint exceptionHandler;
 
+    /**
+     * Hashes are stored as "{bcrypt}$2a$<cost>$...", so each one records its own algorithm and cost.
+     * The cost for new hashes is fixed by configuration or, when set to 0, calibrated on this host at startup.
+     * Legacy hashes without an "{id}" prefix still verify and are upgraded on the next successful login.
+     */
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${safework.security.password.bcrypt-cost:0}") int bcryptCost,
+                                           @Value("${safework.security.password.target-verify-ms:250}") long targetVerifyMs,
+                                           @Value("${safework.security.password.min-cost:10}") int minCost,
+                                           @Value("${safework.security.password.max-cost:14}") int maxCost) {
+        int cost = bcryptCost > 0 ? bcryptCost : BcryptCostCalibrator.calibrate(targetVerifyMs, minCost, maxCost);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(cost)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 
+    /**
+     * JwtAuthenticationFilter is a @Component, so Spring Boot would also register it as a plain servlet filter.
+     * It belongs only inside the security chain below; running it twice would verify every token twice.
+     */
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity http, BCryptPasswordEncoder bCryptPasswordEncoder)
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(HttpSecurity http, PasswordEncoder passwordEncoder)
             throws Exception {
         return http.getSharedObject(AuthenticationManagerBuilder.class)
                 .userDetailsService(userDetailsService)
-                .passwordEncoder(bCryptPasswordEncoder)
+                .passwordEncoder(passwordEncoder)
                 .and()
                 .build();
     }
@@ -102,14 +132,15 @@ public class SecurityConfig {
                 "Content-Type",
                 "X-Requested-With",
                 "Accept",
-                "Origin"
+                "Origin",
+                "Idempotency-Key"
         ));
 
         // Allow credentials for JWT authentication
         config.setAllowCredentials(true);
 
-        // Expose Authorization header to client
-        config.setExposedHeaders(Arrays.asList("Authorization"));
+        // Expose Authorization header, and the marker on replayed idempotent responses, to client
+        config.setExposedHeaders(Arrays.asList("Authorization", "Idempotent-Replayed"));
 
         // Set max age for preflight requests
         config.setMaxAge(3600L);
@@ -2,9 +2,13 @@ package com.safework.api.domain.asset.controller;
 
 import com.safework.api.domain.asset.dto.AssetDto;
 import com.safework.api.domain.asset.dto.CreateAssetRequest;
+import com.safework.api.domain.asset.dto.MergeAssetRequest;
 import com.safework.api.domain.asset.dto.UpdateAssetRequest;
+import com.safework.api.domain.asset.service.AssetSearchService;
 import com.safework.api.domain.asset.service.AssetService;
-import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.util.CursorPage;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,59 +17,159 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/v1/assets") // All endpoints are versioned
 public class AssetController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+
     private final AssetService assetService;
+    private final AssetSearchService assetSearchService;
 
     /**
      * Creates a new asset. Requires ADMIN role.
      */
     @PostMapping
-    @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<AssetDto> createAsset(@RequestBody CreateAssetRequest request, @AuthenticationPrincipal User currentUser) {
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AssetDto> createAsset(@RequestBody CreateAssetRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
         AssetDto newAsset = assetService.createAsset(request, currentUser);
         return new ResponseEntity<>(newAsset, HttpStatus.CREATED);
     }
 
     /**
      * Retrieves a paginated list of all assets for the current user's organization.
+     * Honors If-None-Match: answers 304 if nothing in the organization changed since the tagged response.
      */
     @GetMapping
-    public ResponseEntity<Page<AssetDto>> getAssetsByOrganization(@AuthenticationPrincipal User currentUser, Pageable pageable) {
-        Page<AssetDto> assets = assetService.findAllByOrganization(currentUser.getOrganization().getId(), pageable);
+    public ResponseEntity<Page<AssetDto>> getAssetsByOrganization(@AuthenticationPrincipal AuthenticatedUser currentUser, Pageable pageable,
+                                                                  WebRequest webRequest) {
+        Optional<String> eTag = assetService.findOrganizationAssetsETag(currentUser.organizationId());
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return notModified(eTag.get());
+        }
+        Page<AssetDto> assets = assetService.findAllByOrganization(currentUser.organizationId(), pageable);
+        return tagged(eTag).body(assets);
+    }
+
+    /**
+     * Retrieves the next page of assets after a cursor, for clients walking large inventories.
+     * Pass an empty "after" for the first page, then the returned nextCursor until hasNext is false.
+     * Unlike the offset listing, this skips the total count and stays fast on deep pages.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<AssetDto>> getAssetsAfterCursor(@AuthenticationPrincipal AuthenticatedUser currentUser,
+                                                                     @RequestParam String after,
+                                                                     @RequestParam(defaultValue = "20") int size,
+                                                                     WebRequest webRequest) {
+        Optional<String> eTag = assetService.findOrganizationAssetsETag(currentUser.organizationId());
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return notModified(eTag.get());
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<AssetDto> assets = assetService.findAllByOrganizationAfter(currentUser.organizationId(), after, pageSize);
+        return tagged(eTag).body(assets);
+    }
+
+    /**
+     * Lists an asset type's assets by indexed custom attributes, e.g.
+     * GET /v1/assets/by-attributes?assetTypeId=3&attr.fuel=LPG&attr.capacityKg=2500.
+     * Filters match exact values and are combined with AND; the attributes must be marked "indexed" in the type's
+     * schema. Paged by cursor like the keyset listing: pass the returned nextCursor as "after" while hasNext is true.
+     */
+    @GetMapping("/by-attributes")
+    public ResponseEntity<CursorPage<AssetDto>> getAssetsByAttributes(@AuthenticationPrincipal AuthenticatedUser currentUser,
+                                                                      @RequestParam Long assetTypeId,
+                                                                      @RequestParam(defaultValue = "") String after,
+                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                      @RequestParam Map<String, String> parameters) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<AssetDto> assets = assetService.findAllByAttributes(assetTypeId, parameters, after, pageSize, currentUser);
         return ResponseEntity.ok(assets);
     }
 
+    /**
+     * Searches the current user's organization's assets by tag, name, QR code, asset type and location, best
+     * matches first. Every word of q must match: words of three or more characters anywhere in a field, shorter
+     * words at the start of a word. Paged by page and size, within the first 1000 results.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<AssetDto>> searchAssets(@RequestParam String q, @AuthenticationPrincipal AuthenticatedUser currentUser,
+                                                       Pageable pageable) {
+        Page<AssetDto> assets = assetSearchService.search(q, pageable, currentUser);
+        return ResponseEntity.ok(assets);
+    }
+
+    /**
+     * Resolves a scanned QR code to an asset in the current user's organization.
+     * This is the mobile app's primary lookup, answered from a cache for recently scanned or changed assets.
+     */
+    @GetMapping("/by-qr/{qrCodeId}")
+    public ResponseEntity<AssetDto> getAssetByQrCode(@PathVariable String qrCodeId, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        AssetDto asset = assetService.findAssetByQrCode(qrCodeId, currentUser);
+        // Cached, so the body costs nothing to build; Spring answers 304 itself when the tag matches
+        return ResponseEntity.ok().eTag(AssetService.assetETag(asset)).body(asset);
+    }
+
     /**
      * Retrieves a single asset by its unique ID.
+     * Honors If-None-Match: answers 304 after reading only the asset's version if the client's copy is current.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<AssetDto> getAssetById(@PathVariable Long id, @AuthenticationPrincipal User currentUser) {
+    public ResponseEntity<AssetDto> getAssetById(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser currentUser,
+                                                 WebRequest webRequest) {
+        Optional<String> currentETag = assetService.findAssetETag(id, currentUser);
+        if (currentETag.isPresent() && webRequest.checkNotModified(currentETag.get())) {
+            return notModified(currentETag.get());
+        }
         AssetDto asset = assetService.findAssetById(id, currentUser);
-        return ResponseEntity.ok(asset);
+        return ResponseEntity.ok().eTag(AssetService.assetETag(asset)).body(asset);
     }
 
     /**
      * Updates an existing asset. Requires ADMIN role.
      */
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<AssetDto> updateAsset(@PathVariable Long id, @RequestBody UpdateAssetRequest request, @AuthenticationPrincipal User currentUser) {
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AssetDto> updateAsset(@PathVariable Long id, @RequestBody UpdateAssetRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
         AssetDto updatedAsset = assetService.updateAsset(id, request, currentUser);
         return ResponseEntity.ok(updatedAsset);
     }
 
+    /**
+     * Applies an edit made against a possibly stale copy by three-way merge. Requires ADMIN role.
+     * Send only the changed fields, each with the value it had at baseVersion; 409 only if one of them
+     * was also changed on the server.
+     */
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AssetDto> mergeAsset(@PathVariable Long id, @Valid @RequestBody MergeAssetRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        AssetDto mergedAsset = assetService.mergeAsset(id, request, currentUser);
+        return ResponseEntity.ok(mergedAsset);
+    }
+
     /**
      * Deletes an asset. Requires ADMIN role.
      */
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<Void> deleteAsset(@PathVariable Long id, @AuthenticationPrincipal User currentUser) {
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteAsset(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser currentUser) {
         assetService.deleteAsset(id, currentUser);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    private static ResponseEntity.BodyBuilder tagged(Optional<String> eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response;
+    }
+}
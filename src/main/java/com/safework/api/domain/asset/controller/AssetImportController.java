@@ -0,0 +1,34 @@
+package com.safework.api.domain.asset.controller;
+
+import com.safework.api.domain.asset.dto.AssetImportReport;
+import com.safework.api.domain.asset.service.AssetImportService;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class AssetImportController {
+
+    private final AssetImportService assetImportService;
+
+    /**
+     * Creates many assets from one streamed NDJSON or CSV upload. Requires ADMIN role.
+     * Every data row gets a CREATED or REJECTED entry in the report; valid rows are kept even when others fail.
+     */
+    @PostMapping(value = "/v1/assets:bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AssetImportReport> importAssets(HttpServletRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        AssetImportReport report = assetImportService.importAssets(request.getInputStream(), contentType, currentUser);
+        return ResponseEntity.ok(report);
+    }
+}
@@ -0,0 +1,49 @@
+package com.safework.api.domain.asset.controller;
+
+import com.safework.api.domain.asset.dto.AssetTypeDto;
+import com.safework.api.domain.asset.dto.UpdateAttributeSchemaRequest;
+import com.safework.api.domain.asset.service.AssetTypeService;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/asset-types") // All endpoints are versioned
+public class AssetTypeController {
+
+    private final AssetTypeService assetTypeService;
+
+    /**
+     * Retrieves the current user's organization's asset types, with their attribute schemas.
+     */
+    @GetMapping
+    public ResponseEntity<List<AssetTypeDto>> getAssetTypesByOrganization(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(assetTypeService.findAllByOrganization(currentUser.organizationId()));
+    }
+
+    /**
+     * Retrieves a single asset type by its unique ID.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<AssetTypeDto> getAssetTypeById(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(assetTypeService.findAssetTypeById(id, currentUser));
+    }
+
+    /**
+     * Replaces an asset type's attribute schema and reindexes its assets. Requires ADMIN role.
+     * Send the schemaVersion the edit was based on; 409 if the schema changed since.
+     */
+    @PutMapping("/{id}/attribute-schema")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AssetTypeDto> updateAttributeSchema(@PathVariable Long id, @Valid @RequestBody UpdateAttributeSchemaRequest request,
+                                                              @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(assetTypeService.updateAttributeSchema(id, request, currentUser));
+    }
+}
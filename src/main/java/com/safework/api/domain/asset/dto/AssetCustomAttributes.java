@@ -0,0 +1,12 @@
+package com.safework.api.domain.asset.dto;
+
+import java.util.Map;
+
+/**
+ * An asset's custom attributes with just enough context to index them; read when rebuilding an asset type's index.
+ */
+public record AssetCustomAttributes(
+        Long id,
+        Long organizationId,
+        Map<String, Object> customAttributes
+) {}
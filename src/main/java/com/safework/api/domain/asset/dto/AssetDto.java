@@ -1,5 +1,7 @@
 package com.safework.api.domain.asset.dto;
 
+import com.safework.api.domain.asset.model.AssetStatus;
+
 // This is a simplified example. You would include all fields you want to expose.
 public record AssetDto(
         Long id,
@@ -10,4 +12,12 @@ public record AssetDto(
         Long organizationId,
         Long assignedToUserId,
         int version
-) {}
+) {
+    /**
+     * Used by the JPQL constructor expressions in AssetRepository, which select the status enum as mapped.
+     */
+    public AssetDto(Long id, String assetTag, String name, String qrCodeId, AssetStatus status,
+                    Long organizationId, Long assignedToUserId, int version) {
+        this(id, assetTag, name, qrCodeId, status.name(), organizationId, assignedToUserId, version);
+    }
+}
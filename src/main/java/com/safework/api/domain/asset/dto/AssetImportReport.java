@@ -0,0 +1,10 @@
+package com.safework.api.domain.asset.dto;
+
+import java.util.List;
+
+public record AssetImportReport(
+        long totalRows,
+        long created,
+        long rejected,
+        List<AssetImportRowResult> results
+) {}
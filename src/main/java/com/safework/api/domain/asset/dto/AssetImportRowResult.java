@@ -0,0 +1,20 @@
+package com.safework.api.domain.asset.dto;
+
+/**
+ * Outcome of one data row of a bulk import.
+ *
+ * @param row the 1-based data row number (the CSV header is not counted)
+ * @param assetId the id of the created asset; null when the row was rejected
+ * @param status CREATED or REJECTED
+ * @param error why the row was rejected; null when it was created
+ */
+public record AssetImportRowResult(
+        long row,
+        String assetTag,
+        Long assetId,
+        String status,
+        String error
+) {
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+}
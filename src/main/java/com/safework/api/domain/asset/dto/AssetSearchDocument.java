@@ -0,0 +1,13 @@
+package com.safework.api.domain.asset.dto;
+
+/**
+ * The searchable text of an asset, read to fill the in-memory search index.
+ */
+public record AssetSearchDocument(
+        Long id,
+        String assetTag,
+        String name,
+        String qrCodeId,
+        String assetTypeName,
+        String locationName
+) {}
@@ -0,0 +1,10 @@
+package com.safework.api.domain.asset.dto;
+
+import java.util.Map;
+
+public record AssetTypeDto(
+        Long id,
+        String name,
+        Map<String, Object> attributeSchema,
+        int schemaVersion
+) {}
@@ -0,0 +1,10 @@
+package com.safework.api.domain.asset.dto;
+
+/**
+ * One field edited by a client: the value it had when the client last saw it, and the value the client wants.
+ * The base lets the server tell an untouched field from one someone else changed in the meantime.
+ */
+public record FieldChange<T>(
+        T base,
+        T value
+) {}
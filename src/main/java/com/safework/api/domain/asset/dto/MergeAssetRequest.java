@@ -0,0 +1,24 @@
+package com.safework.api.domain.asset.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+/**
+ * An edit to apply by three-way merge: only the fields the client changed, each with its base value.
+ * Omitted (null) fields are left alone. A customAttributes entry whose value is null removes that key.
+ */
+public record MergeAssetRequest(
+        @NotNull(message = "Base version is required for merges")
+        @Min(value = 0, message = "Version cannot be negative")
+        Integer baseVersion,
+
+        FieldChange<String> name,
+
+        FieldChange<String> status,
+
+        FieldChange<Long> assignedToUserId,
+
+        Map<String, FieldChange<Object>> customAttributes
+) {}
@@ -0,0 +1,17 @@
+package com.safework.api.domain.asset.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+/**
+ * Replaces an asset type's attribute schema; a null schema removes it.
+ */
+public record UpdateAttributeSchemaRequest(
+        Map<String, Object> attributeSchema,
+
+        @NotNull(message = "Schema version is required for updates")
+        @Min(value = 0, message = "Schema version cannot be negative")
+        Integer schemaVersion
+) {}
@@ -0,0 +1,21 @@
+package com.safework.api.domain.asset.event;
+
+import com.safework.api.domain.asset.dto.AssetDto;
+
+/**
+ * Published by AssetService whenever an asset is created, updated or deleted.
+ * Listeners that keep derived read models (caches, indexes) react after the surrounding transaction commits.
+ *
+ * @param previousQrCodeId the QR code the asset had before the change (null for a newly created asset)
+ * @param asset the asset as committed, or null if it was deleted
+ */
+public record AssetChangedEvent(
+        Long organizationId,
+        Long assetId,
+        String previousQrCodeId,
+        AssetDto asset
+) {
+    public boolean isDeletion() {
+        return asset == null;
+    }
+}
@@ -1,7 +1,9 @@
 package com.safework.api.domain.asset.mapper;
 
 import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.dto.AssetTypeDto;
 import com.safework.api.domain.asset.model.Asset;
+import com.safework.api.domain.asset.model.AssetType;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,4 +21,13 @@ public class AssetMapper {
                 asset.getVersion()
         );
     }
-}
\ No newline at end of file
+
+    public AssetTypeDto toDto(AssetType assetType) {
+        return new AssetTypeDto(
+                assetType.getId(),
+                assetType.getName(),
+                assetType.getAttributeSchema(),
+                assetType.getSchemaVersion()
+        );
+    }
+}
@@ -9,8 +9,12 @@ import com.safework.api.domain.organization.model.Organization;
 import com.safework.api.domain.supplier.model.Supplier;
 import com.safework.api.domain.user.model.User;
 import com.safework.api.domain.util.JsonValidator;
+import com.safework.api.domain.util.TimeOrderedId;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -31,11 +35,13 @@ import java.util.Map;
 @Entity
 @Table(name = "assets", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"organizationId", "qrCodeId"})
+}, indexes = {
+        @Index(name = "idx_assets_organization_id_id", columnList = "organization_id, id") // Keyset pagination
 })
 public class Asset {
     // --- Core Identification ---
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId // Assigned in the JVM so inserts can be batched
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -129,18 +135,34 @@ public class Asset {
     @OneToMany(mappedBy = "asset", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<MaintenanceLog> maintenanceLogs;
     
+    // --- Validation memo (not persisted) ---
+    // The read-only snapshot the setter validated and stored; while customAttributes is still this very map it cannot have changed.
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Map<String, Object> validatedCustomAttributes;
+
     // --- Lifecycle Hooks ---
     
     @PrePersist
     @PreUpdate
     private void validateJsonData() {
-        JsonValidator.validateJson(this.customAttributes, "customAttributes");
+        // Skipped only for the setter's snapshot; a map loaded by Hibernate is mutable and may have been changed in place
+        if (this.customAttributes != this.validatedCustomAttributes) {
+            JsonValidator.validateJson(this.customAttributes, "customAttributes");
+        }
     }
     
     // --- Setters with validation ---
     
+    /**
+     * Validates the data and stores a read-only snapshot of it, so it cannot change after validation.
+     * To change it, set a modified {@link JsonValidator#deepCopy}.
+     */
     public void setCustomAttributes(Map<String, Object> customAttributes) {
         JsonValidator.validateJson(customAttributes, "customAttributes");
-        this.customAttributes = customAttributes;
+        this.customAttributes = JsonValidator.immutableCopy(customAttributes);
+        this.validatedCustomAttributes = this.customAttributes;
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.safework.api.domain.asset.model;
+
+import com.safework.api.domain.util.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * One indexed custom attribute of an asset: a copy of customAttributes[attrKey], normalized to a string, for each
+ * attribute its asset type's schema marks as indexed. Filtering assets by such attributes seeks the lookup index
+ * instead of scanning and parsing every asset's JSON.
+ *
+ * Rows are derived data, rewritten by AssetAttributeIndex whenever an asset's attributes or its type's schema
+ * change, in the same transaction. Plain id columns rather than associations, so deleting an asset or rebuilding
+ * a type's rows never has to load entities.
+ */
+@Data
+@Entity
+@Table(name = "asset_attribute_index", indexes = {
+        @Index(name = "idx_asset_attribute_index_lookup",
+                columnList = "organization_id, asset_type_id, attr_key, attr_value, asset_id"), // Filter, in asset id order
+        @Index(name = "idx_asset_attribute_index_asset_id", columnList = "asset_id"), // Rewrites on asset change
+        @Index(name = "idx_asset_attribute_index_asset_type_id", columnList = "asset_type_id") // Rebuilds on schema change
+})
+public class AssetAttributeIndexEntry {
+
+    @Id
+    @TimeOrderedId // Assigned in the JVM so inserts can be batched
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "asset_type_id", nullable = false)
+    private Long assetTypeId;
+
+    @Column(name = "asset_id", nullable = false)
+    private Long assetId;
+
+    @Column(name = "attr_key", nullable = false, length = 100)
+    private String attrKey;
+
+    @Column(name = "attr_value", nullable = false, length = 255)
+    private String attrValue;
+}
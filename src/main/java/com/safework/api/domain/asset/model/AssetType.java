@@ -1,9 +1,14 @@
 package com.safework.api.domain.asset.model;
 
 import com.safework.api.domain.organization.model.Organization;
+import com.safework.api.domain.util.JsonValidator;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Entity
@@ -20,6 +25,21 @@ public class AssetType {
     @Column(nullable = false)
     private String name; // e.g., "Laptop", "Vehicle", "Policy Document"
 
+    // Typed definitions of the customAttributes of this type's assets, e.g.
+    // {"attributes": {"fuel": {"type": "string", "indexed": true, "options": ["LPG", "diesel"]}}}
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "json")
+    private Map<String, Object> attributeSchema;
+
+    @Version
+    @Column(nullable = false)
+    private int schemaVersion; // Bumped on every schema change, which is the only update of a type; keys the compiled schema cache
+
     @OneToMany(mappedBy = "assetType", fetch = FetchType.LAZY)
     private List<Asset> assets;
+
+    public void setAttributeSchema(Map<String, Object> attributeSchema) {
+        JsonValidator.validateJson(attributeSchema, "attributeSchema");
+        this.attributeSchema = attributeSchema;
+    }
 }
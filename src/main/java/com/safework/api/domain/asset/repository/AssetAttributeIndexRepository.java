@@ -0,0 +1,48 @@
+package com.safework.api.domain.asset.repository;
+
+import com.safework.api.domain.asset.model.AssetAttributeIndexEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lookups on the indexed custom attributes of assets. Rows are written by AssetAttributeIndex.
+ */
+@Repository
+public interface AssetAttributeIndexRepository extends JpaRepository<AssetAttributeIndexEntry, Long> {
+
+    /**
+     * Finds the next assets after a given id whose attribute has the given value (keyset/seek pagination).
+     * Seeks the lookup index on (organization_id, asset_type_id, attr_key, attr_value, asset_id) and reads the
+     * ids from it in order, without touching the assets table.
+     *
+     * @param organizationId The ID of the organization.
+     * @param assetTypeId    The asset type whose schema indexes the attribute.
+     * @param attrKey        The attribute name.
+     * @param attrValue      The attribute value, normalized like the indexed values.
+     * @param afterId        The id of the last asset already seen (0 for the first page).
+     * @param pageable       The number of ids to return; any sort is ignored in favour of id order.
+     * @return Matching asset ids greater than afterId, in ascending order.
+     */
+    @Query("select e.assetId from AssetAttributeIndexEntry e where e.organizationId = :organizationId "
+            + "and e.assetTypeId = :assetTypeId and e.attrKey = :attrKey and e.attrValue = :attrValue "
+            + "and e.assetId > :afterId order by e.assetId")
+    List<Long> findAssetIdsAfter(Long organizationId, Long assetTypeId, String attrKey, String attrValue,
+                                 Long afterId, Pageable pageable);
+
+    /**
+     * Narrows candidate assets to those whose attribute has the given value; used to intersect further filters
+     * with the ids found by {@link #findAssetIdsAfter}.
+     *
+     * @return The subset of assetIds that match, in no particular order.
+     */
+    @Query("select e.assetId from AssetAttributeIndexEntry e where e.organizationId = :organizationId "
+            + "and e.assetTypeId = :assetTypeId and e.attrKey = :attrKey and e.attrValue = :attrValue "
+            + "and e.assetId in :assetIds")
+    List<Long> findAssetIdsIn(Long organizationId, Long assetTypeId, String attrKey, String attrValue,
+                              Collection<Long> assetIds);
+}
@@ -1,11 +1,18 @@
 package com.safework.api.domain.asset.repository;
 
+import com.safework.api.domain.asset.dto.AssetCustomAttributes;
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.dto.AssetSearchDocument;
 import com.safework.api.domain.asset.model.Asset;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,6 +22,16 @@ import java.util.Optional;
 @Repository
 public interface AssetRepository extends JpaRepository<Asset, Long> {
 
+    /**
+     * AssetDto constructor arguments. a.organization.id and a.assignedTo.id resolve to the FK columns without a join.
+     */
+    String DTO_COLUMNS = "a.id, a.assetTag, a.name, a.qrCodeId, a.status, a.organization.id, a.assignedTo.id, a.version";
+
+    /**
+     * AssetSearchDocument constructor arguments, with the asset type and location names joined in.
+     */
+    String SEARCH_COLUMNS = "a.id, a.assetTag, a.name, a.qrCodeId, t.name, l.name";
+
     /**
      * Finds an asset by its unique QR code ID.
      * This is a critical method for the mobile app's scanning feature.
@@ -24,6 +41,36 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
      */
     Optional<Asset> findByQrCodeId(String qrCodeId);
 
+    /**
+     * Resolves a scanned QR code within one organization, projected like {@link #findDtosByOrganizationId}.
+     * The tenant check is part of the query, so another organization's asset is never loaded.
+     *
+     * @param organizationId The ID of the scanning user's organization.
+     * @param qrCodeId       The QR code identifier to search for.
+     * @return An Optional containing the asset DTO, or empty if the organization has no such asset.
+     */
+    @Query("select new com.safework.api.domain.asset.dto.AssetDto(" + DTO_COLUMNS + ") from Asset a "
+            + "where a.organization.id = :organizationId and a.qrCodeId = :qrCodeId")
+    Optional<AssetDto> findDtoByOrganizationIdAndQrCodeId(Long organizationId, String qrCodeId);
+
+    /**
+     * Reads only an asset's version, for answering conditional GETs without loading the asset.
+     *
+     * @param id             The ID of the asset.
+     * @param organizationId The ID of the requesting user's organization.
+     * @return The version, or empty if the organization has no such asset.
+     */
+    @Query("select a.version from Asset a where a.id = :id and a.organization.id = :organizationId")
+    Optional<Integer> findVersionByIdAndOrganizationId(Long id, Long organizationId);
+
+    /**
+     * Counts an organization's assets.
+     *
+     * @param organizationId The ID of the organization.
+     * @return The number of assets.
+     */
+    long countByOrganizationId(Long organizationId);
+
     /**
      * Finds all assets belonging to a specific organization, with pagination support.
      * This is essential for multi-tenancy, ensuring users only see their own company's assets.
@@ -33,4 +80,118 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
      * @return A Page of assets for the given organization.
      */
     Page<Asset> findAllByOrganizationId(Long organizationId, Pageable pageable);
+
+    /**
+     * Read model for the asset listing: selects only the AssetDto columns straight into the record.
+     * Foreign-key ids are read from the assets row itself, so no entity, persistence-context entry,
+     * JSON column or lazy proxy is created per row.
+     *
+     * @param organizationId The ID of the organization.
+     * @param pageable       The pagination information (page number, size, and sorting).
+     * @return A Page of asset DTOs for the given organization.
+     */
+    @Query(value = "select new com.safework.api.domain.asset.dto.AssetDto(" + DTO_COLUMNS + ") from Asset a "
+            + "where a.organization.id = :organizationId",
+            countQuery = "select count(a) from Asset a where a.organization.id = :organizationId")
+    Page<AssetDto> findDtosByOrganizationId(Long organizationId, Pageable pageable);
+
+    /**
+     * Finds the next slice of an organization's assets after a given id (keyset/seek pagination).
+     * Seeks directly into the (organization_id, id) index, so deep pages cost the same as the first,
+     * and returns a Slice, so no count query is issued. Rows are projected like {@link #findDtosByOrganizationId}.
+     *
+     * @param organizationId The ID of the organization.
+     * @param afterId        The id of the last asset already seen (0 for the first page).
+     * @param pageable       The page size; any sort is ignored in favour of id order.
+     * @return A Slice of asset DTOs with ids greater than afterId, in id order.
+     */
+    @Query("select new com.safework.api.domain.asset.dto.AssetDto(" + DTO_COLUMNS + ") from Asset a "
+            + "where a.organization.id = :organizationId and a.id > :afterId order by a.id")
+    Slice<AssetDto> findDtosByOrganizationIdAfter(Long organizationId, Long afterId, Pageable pageable);
+
+    /**
+     * Loads the given assets of one organization, projected like {@link #findDtosByOrganizationId}.
+     * Ids that do not exist or belong to another organization are silently skipped.
+     *
+     * @param organizationId The ID of the organization.
+     * @param ids            The asset ids to load.
+     * @return The asset DTOs found, in no particular order.
+     */
+    @Query("select new com.safework.api.domain.asset.dto.AssetDto(" + DTO_COLUMNS + ") from Asset a "
+            + "where a.organization.id = :organizationId and a.id in :ids")
+    List<AssetDto> findDtosByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Reads the custom attributes of an asset type's assets after a given id, in id order, without loading the
+     * entities. Used to rebuild the type's attribute index when its schema changes.
+     *
+     * @param assetTypeId The ID of the asset type.
+     * @param afterId     The id of the last asset already read (0 for the first slice).
+     * @param pageable    The slice size; any sort is ignored in favour of id order.
+     * @return A Slice of the assets' ids, organizations and custom attributes.
+     */
+    @Query("select new com.safework.api.domain.asset.dto.AssetCustomAttributes(a.id, a.organization.id, a.customAttributes) "
+            + "from Asset a where a.assetType.id = :assetTypeId and a.id > :afterId order by a.id")
+    Slice<AssetCustomAttributes> findCustomAttributesByAssetTypeIdAfter(Long assetTypeId, Long afterId, Pageable pageable);
+
+    /**
+     * Reads the searchable text of an organization's assets after a given id, in id order (keyset chunks).
+     * Used to fill the organization's in-memory search index.
+     *
+     * @param organizationId The ID of the organization.
+     * @param afterId        The id of the last asset already read (0 for the first chunk).
+     * @param pageable       The chunk size; any sort is ignored in favour of id order.
+     * @return A Slice of search documents with ids greater than afterId.
+     */
+    @Query("select new com.safework.api.domain.asset.dto.AssetSearchDocument(" + SEARCH_COLUMNS + ") from Asset a "
+            + "join a.assetType t left join a.location l "
+            + "where a.organization.id = :organizationId and a.id > :afterId order by a.id")
+    Slice<AssetSearchDocument> findSearchDocumentsByOrganizationIdAfter(Long organizationId, Long afterId, Pageable pageable);
+
+    /**
+     * Reads the searchable text of the given assets of one organization, to refresh them in the search index.
+     * Ids that no longer exist (deleted assets) are silently skipped.
+     *
+     * @param organizationId The ID of the organization.
+     * @param ids            The asset ids to read.
+     * @return The search documents found, in no particular order.
+     */
+    @Query("select new com.safework.api.domain.asset.dto.AssetSearchDocument(" + SEARCH_COLUMNS + ") from Asset a "
+            + "join a.assetType t left join a.location l "
+            + "where a.organization.id = :organizationId and a.id in :ids")
+    List<AssetSearchDocument> findSearchDocumentsByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Finds an organization's assets whose tag, QR code or name starts with a prefix, projected like
+     * {@link #findDtosByOrganizationId}. Search falls back to this for organizations too large to index in memory.
+     *
+     * @param organizationId The ID of the organization.
+     * @param prefix         A LIKE pattern: the prefix with '!', '%' and '_' escaped by '!', followed by '%'.
+     * @param pageable       The pagination information.
+     * @return A Page of matching asset DTOs in id order.
+     */
+    @Query(value = "select new com.safework.api.domain.asset.dto.AssetDto(" + DTO_COLUMNS + ") from Asset a "
+            + "where a.organization.id = :organizationId and (a.assetTag like :prefix escape '!' "
+            + "or a.qrCodeId like :prefix escape '!' or a.name like :prefix escape '!') order by a.id",
+            countQuery = "select count(a) from Asset a where a.organization.id = :organizationId and (a.assetTag like :prefix escape '!' "
+                    + "or a.qrCodeId like :prefix escape '!' or a.name like :prefix escape '!')")
+    Page<AssetDto> findDtosByOrganizationIdAndPrefix(Long organizationId, String prefix, Pageable pageable);
+
+    /**
+     * Returns which of the given asset tags are already taken (tags are unique across all organizations).
+     *
+     * @param assetTags The candidate asset tags.
+     * @return The subset of tags that already exist.
+     */
+    @Query("select a.assetTag from Asset a where a.assetTag in :assetTags")
+    List<String> findExistingAssetTags(Collection<String> assetTags);
+
+    /**
+     * Returns which of the given QR code ids are already taken (QR codes are unique across all organizations).
+     *
+     * @param qrCodeIds The candidate QR code ids.
+     * @return The subset of QR code ids that already exist.
+     */
+    @Query("select a.qrCodeId from Asset a where a.qrCodeId in :qrCodeIds")
+    List<String> findExistingQrCodeIds(Collection<String> qrCodeIds);
 }
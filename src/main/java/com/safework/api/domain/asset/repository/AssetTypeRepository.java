@@ -2,8 +2,12 @@ package com.safework.api.domain.asset.repository;
 
 import org.springframework.stereotype.Repository;
 import com.safework.api.domain.asset.model.AssetType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +34,27 @@ public interface AssetTypeRepository extends JpaRepository<AssetType, Long> {
      * @return An Optional containing the found asset type, or empty if not found.
      */
     Optional<AssetType> findByNameAndOrganizationId(String name, Long organizationId);
+
+    /**
+     * Returns which of the given asset type ids belong to the organization, in a single query.
+     * Used by the bulk import to resolve every type referenced in a chunk at once.
+     *
+     * @param organizationId The ID of the organization.
+     * @param ids            The candidate asset type ids.
+     * @return The subset of ids that exist in the organization.
+     */
+    @Query("select t.id from AssetType t where t.organization.id = :organizationId and t.id in :ids")
+    List<Long> findIdsByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Reads an asset type under a shared lock held until the transaction ends, so its schema cannot change
+     * (and its attribute index cannot be rebuilt) while an asset is validated and indexed against it.
+     * Call it before anything else in the transaction loads the type, or the type's state may be stale.
+     *
+     * @param id The ID of the asset type.
+     * @return An Optional containing the found asset type, or empty if not found.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from AssetType t where t.id = :id")
+    Optional<AssetType> findByIdForSchemaRead(Long id);
 }
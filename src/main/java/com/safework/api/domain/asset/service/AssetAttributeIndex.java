@@ -0,0 +1,116 @@
+package com.safework.api.domain.asset.service;
+
+import com.safework.api.domain.asset.dto.AssetCustomAttributes;
+import com.safework.api.domain.asset.model.AssetType;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the asset_attribute_index table: one row per indexed custom attribute of each asset, as defined by
+ * its type's {@link AssetAttributeSchema}.
+ *
+ * Rows are rewritten inside the transaction that changes the asset or the schema, so the index never disagrees
+ * with committed data. They are written with plain JDBC batches under ids from the shared
+ * {@link TimeOrderedIdAllocator}, like the bulk import, since an asset's rows are always replaced wholesale.
+ */
+@Component
+public class AssetAttributeIndex {
+
+    private static final String INSERT_SQL = "INSERT INTO asset_attribute_index "
+            + "(id, organization_id, asset_type_id, asset_id, attr_key, attr_value) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_BY_ASSET_SQL = "DELETE FROM asset_attribute_index WHERE asset_id = ?";
+    private static final String DELETE_BY_ASSET_TYPE_SQL = "DELETE FROM asset_attribute_index WHERE asset_type_id = ?";
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final AssetRepository assetRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeOrderedIdAllocator idAllocator;
+
+    public AssetAttributeIndex(AssetRepository assetRepository, JdbcTemplate jdbcTemplate, TimeOrderedIdAllocator idAllocator) {
+        this.assetRepository = assetRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    /**
+     * Replaces an asset's index rows with those for its current custom attributes.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void update(Long organizationId, Long assetTypeId, Long assetId, AssetAttributeSchema schema,
+                       Map<String, Object> customAttributes) {
+        jdbcTemplate.update(DELETE_BY_ASSET_SQL, assetId);
+        List<Row> rows = new ArrayList<>();
+        addRows(rows, organizationId, assetTypeId, assetId, schema, customAttributes);
+        insert(rows);
+    }
+
+    /**
+     * Drops the index rows of a deleted asset.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long assetId) {
+        jdbcTemplate.update(DELETE_BY_ASSET_SQL, assetId);
+    }
+
+    /**
+     * Re-derives the rows of every asset of a type after its schema changed, reading the assets in id-ordered
+     * chunks so memory stays flat however many there are.
+     *
+     * @return the number of assets read
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long rebuild(AssetType assetType, AssetAttributeSchema schema) {
+        jdbcTemplate.update(DELETE_BY_ASSET_TYPE_SQL, assetType.getId());
+        if (!schema.hasIndexedAttributes()) {
+            return 0;
+        }
+        long assets = 0;
+        long afterId = 0;
+        Slice<AssetCustomAttributes> chunk;
+        do {
+            chunk = assetRepository.findCustomAttributesByAssetTypeIdAfter(
+                    assetType.getId(), afterId, PageRequest.ofSize(REBUILD_CHUNK_SIZE));
+            List<Row> rows = new ArrayList<>();
+            for (AssetCustomAttributes asset : chunk) {
+                addRows(rows, asset.organizationId(), assetType.getId(), asset.id(), schema, asset.customAttributes());
+                afterId = asset.id();
+            }
+            insert(rows);
+            assets += chunk.getNumberOfElements();
+        } while (chunk.hasNext());
+        return assets;
+    }
+
+    private void addRows(List<Row> rows, Long organizationId, Long assetTypeId, Long assetId,
+                         AssetAttributeSchema schema, Map<String, Object> customAttributes) {
+        for (AssetAttributeSchema.IndexedValue value : schema.indexedValues(customAttributes)) {
+            rows.add(new Row(idAllocator.nextId(), organizationId, assetTypeId, assetId, value.key(), value.value()));
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.id());
+            ps.setLong(2, row.organizationId());
+            ps.setLong(3, row.assetTypeId());
+            ps.setLong(4, row.assetId());
+            ps.setString(5, row.key());
+            ps.setString(6, row.value());
+        });
+    }
+
+    private record Row(long id, Long organizationId, Long assetTypeId, Long assetId, String key, String value) {}
+}
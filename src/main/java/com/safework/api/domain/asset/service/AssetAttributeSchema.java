@@ -0,0 +1,221 @@
+package com.safework.api.domain.asset.service;
+
+import com.safework.api.exception.BadRequestException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An asset type's attribute schema compiled for checking and indexing the customAttributes of its assets.
+ *
+ * Schemas look like {"attributes": {"fuel": {"type": "string", "indexed": true, "options": ["LPG", "diesel"]},
+ * "capacityKg": {"type": "number", "indexed": true}, "hasCage": {"type": "boolean"}}}. Types are string, number
+ * and boolean; a string attribute may be limited to "options". Only declared attributes are checked, and only when
+ * present, so customAttributes stays open to keys the schema does not mention.
+ *
+ * Attributes marked "indexed" are copied into the asset_attribute_index table as normalized strings, so assets can
+ * be filtered on them by equality: numbers in plain canonical form (1500, 1500.0 and 1.5E3 are all "1500"),
+ * booleans as "true" or "false", strings as given.
+ */
+public final class AssetAttributeSchema {
+
+    public static final AssetAttributeSchema EMPTY = new AssetAttributeSchema(Map.of(), new Attribute[0]);
+
+    static final int MAX_INDEXED_ATTRIBUTES = 16;
+    static final int MAX_KEY_LENGTH = 100;
+    static final int MAX_INDEXED_VALUE_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    enum AttributeType {
+        STRING, NUMBER, BOOLEAN
+    }
+
+    record Attribute(String key, AttributeType type, boolean indexed, Set<String> options) {}
+
+    /**
+     * An indexed attribute's normalized value, as stored in (and looked up from) the index.
+     */
+    public record IndexedValue(String key, String value) {}
+
+    private final Map<String, Attribute> attributes;
+    private final Attribute[] indexedAttributes;
+
+    private AssetAttributeSchema(Map<String, Attribute> attributes, Attribute[] indexedAttributes) {
+        this.attributes = attributes;
+        this.indexedAttributes = indexedAttributes;
+    }
+
+    /**
+     * @throws BadRequestException if the schema is not well-formed
+     */
+    public static AssetAttributeSchema compile(Map<String, Object> attributeSchema) {
+        if (attributeSchema == null) {
+            return EMPTY;
+        }
+        if (!(attributeSchema.get("attributes") instanceof Map<?, ?> definitions)) {
+            throw new BadRequestException("Attribute schema must contain an \"attributes\" object");
+        }
+        Map<String, Attribute> attributes = new LinkedHashMap<>();
+        List<Attribute> indexed = new ArrayList<>();
+        for (Map.Entry<?, ?> definition : definitions.entrySet()) {
+            Attribute attribute = compileAttribute(definition.getKey().toString(), definition.getValue());
+            attributes.put(attribute.key(), attribute);
+            if (attribute.indexed()) {
+                indexed.add(attribute);
+            }
+        }
+        if (indexed.size() > MAX_INDEXED_ATTRIBUTES) {
+            throw new BadRequestException("An asset type can index at most " + MAX_INDEXED_ATTRIBUTES + " attributes");
+        }
+        return new AssetAttributeSchema(Map.copyOf(attributes), indexed.toArray(Attribute[]::new));
+    }
+
+    private static Attribute compileAttribute(String key, Object definition) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Attribute names must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        if (!(definition instanceof Map<?, ?> definitionMap)) {
+            throw new BadRequestException("Attribute " + key + " must be defined by an object");
+        }
+        AttributeType type;
+        try {
+            type = AttributeType.valueOf(String.valueOf(definitionMap.get("type")).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Attribute " + key + " has an unknown type: " + definitionMap.get("type"));
+        }
+        boolean indexed = Boolean.TRUE.equals(definitionMap.get("indexed"));
+        Set<String> options = null;
+        if (definitionMap.get("options") != null) {
+            if (type != AttributeType.STRING || !(definitionMap.get("options") instanceof List<?> optionList) || optionList.isEmpty()) {
+                throw new BadRequestException("Attribute " + key + " may only list \"options\" as a non-empty list of strings");
+            }
+            options = new LinkedHashSet<>();
+            for (Object option : optionList) {
+                if (!(option instanceof String string)) {
+                    throw new BadRequestException("Attribute " + key + " may only list \"options\" as a non-empty list of strings");
+                }
+                options.add(string);
+            }
+            options = Set.copyOf(options);
+        }
+        return new Attribute(key, type, indexed, options);
+    }
+
+    public boolean hasIndexedAttributes() {
+        return indexedAttributes.length > 0;
+    }
+
+    /**
+     * Checks the declared attributes present in an asset's customAttributes, reporting every mismatch at once.
+     *
+     * @throws BadRequestException if a declared attribute has the wrong type, is not one of its options, or is
+     *                             too long to index
+     */
+    public void validate(Map<String, Object> customAttributes) {
+        if (customAttributes == null || attributes.isEmpty()) {
+            return;
+        }
+        List<String> errors = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : customAttributes.entrySet()) {
+            Attribute attribute = attributes.get(entry.getKey());
+            if (attribute == null || entry.getValue() == null) {
+                continue;
+            }
+            String value = normalize(attribute.type(), entry.getValue());
+            if (value == null) {
+                errors.add(entry.getKey() + " must be a " + attribute.type().name().toLowerCase());
+            } else if (attribute.options() != null && !attribute.options().contains(value)) {
+                errors.add(entry.getKey() + " must be one of " + attribute.options());
+            } else if (attribute.indexed() && value.length() > MAX_INDEXED_VALUE_LENGTH) {
+                errors.add(entry.getKey() + " must be at most " + MAX_INDEXED_VALUE_LENGTH + " characters");
+            }
+            if (errors.size() == MAX_REPORTED_ERRORS) {
+                break;
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BadRequestException("Invalid custom attributes: " + String.join("; ", errors));
+        }
+    }
+
+    /**
+     * The index entries for an asset's customAttributes. Indexed attributes that are absent, null or do not match
+     * the schema (assets written before the schema changed) are left out.
+     */
+    public List<IndexedValue> indexedValues(Map<String, Object> customAttributes) {
+        if (customAttributes == null || indexedAttributes.length == 0) {
+            return List.of();
+        }
+        List<IndexedValue> values = new ArrayList<>(indexedAttributes.length);
+        for (Attribute attribute : indexedAttributes) {
+            Object raw = customAttributes.get(attribute.key());
+            String value = raw == null ? null : normalize(attribute.type(), raw);
+            if (value != null && value.length() <= MAX_INDEXED_VALUE_LENGTH) {
+                values.add(new IndexedValue(attribute.key(), value));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Parses a filter value given as a query parameter into the indexed form of the attribute.
+     *
+     * @throws BadRequestException if the attribute is not indexed or the value does not fit its type
+     */
+    public IndexedValue criterion(String key, String value) {
+        Attribute attribute = attributes.get(key);
+        if (attribute == null || !attribute.indexed()) {
+            throw new BadRequestException("Attribute " + key + " is not indexed for this asset type");
+        }
+        String normalized = switch (attribute.type()) {
+            case STRING -> value;
+            case NUMBER -> {
+                try {
+                    yield canonical(new BigDecimal(value.trim()));
+                } catch (NumberFormatException e) {
+                    throw new BadRequestException("Attribute " + key + " must be filtered by a number");
+                }
+            }
+            case BOOLEAN -> {
+                if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+                    throw new BadRequestException("Attribute " + key + " must be filtered by true or false");
+                }
+                yield value.toLowerCase();
+            }
+        };
+        return new IndexedValue(key, normalized);
+    }
+
+    /**
+     * @return the value in indexed form, or null if it does not have the given type
+     */
+    private static String normalize(AttributeType type, Object value) {
+        return switch (type) {
+            case STRING -> value instanceof String string ? string : null;
+            case BOOLEAN -> value instanceof Boolean bool ? bool.toString() : null;
+            case NUMBER -> {
+                if (value instanceof BigDecimal decimal) {
+                    yield canonical(decimal);
+                } else if (value instanceof BigInteger integer) {
+                    yield canonical(new BigDecimal(integer));
+                } else if (value instanceof Double || value instanceof Float) {
+                    double d = ((Number) value).doubleValue();
+                    yield Double.isFinite(d) ? canonical(BigDecimal.valueOf(d)) : null;
+                } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                    yield Long.toString(((Number) value).longValue());
+                }
+                yield null;
+            }
+        };
+    }
+
+    private static String canonical(BigDecimal decimal) {
+        return decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString();
+    }
+}
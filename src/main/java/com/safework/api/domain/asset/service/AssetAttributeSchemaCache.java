@@ -0,0 +1,44 @@
+package com.safework.api.domain.asset.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safework.api.domain.asset.model.AssetType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiled attribute schemas, keyed by (asset type, schema version).
+ *
+ * Callers already hold the asset type, so a lookup costs no query. Every schema change bumps the version, so an
+ * edited schema simply misses and compiles; superseded entries are never hit again and fall out through the size
+ * bound. Hits and misses are exported as the "asset-attribute-schemas" cache in Micrometer.
+ */
+@Component
+public class AssetAttributeSchemaCache {
+
+    private record SchemaKey(Long assetTypeId, int schemaVersion) {}
+
+    private final Cache<SchemaKey, AssetAttributeSchema> cache;
+
+    public AssetAttributeSchemaCache(MeterRegistry meterRegistry,
+                                     @Value("${safework.assets.attribute-schemas.cache-size:1000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "asset-attribute-schemas");
+    }
+
+    /**
+     * @return the compiled schema of the asset type, or {@link AssetAttributeSchema#EMPTY} if it has none
+     */
+    public AssetAttributeSchema forType(AssetType assetType) {
+        if (assetType.getAttributeSchema() == null) {
+            return AssetAttributeSchema.EMPTY;
+        }
+        return cache.get(new SchemaKey(assetType.getId(), assetType.getSchemaVersion()),
+                key -> AssetAttributeSchema.compile(assetType.getAttributeSchema()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.safework.api.domain.asset.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safework.api.domain.asset.dto.CreateAssetRequest;
+import com.safework.api.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads a bulk import body one line at a time, so an upload is never held in memory as a whole.
+ * NDJSON lines are CreateAssetRequest objects. CSV needs a header naming the assetTag, name, qrCodeId
+ * and assetTypeId columns (in any order); fields may be double-quoted but may not span lines.
+ * Blank lines are skipped in both formats.
+ */
+class AssetImportParser {
+
+    /**
+     * One parsed data row: either a request or the reason it could not be read.
+     */
+    record ParsedRow(long row, CreateAssetRequest request, String error) {}
+
+    private static final String[] CSV_COLUMNS = {"assettag", "name", "qrcodeid", "assettypeid"};
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int[] csvColumnIndexes; // null for NDJSON
+    private long row;
+
+    private AssetImportParser(BufferedReader reader, ObjectMapper objectMapper, int[] csvColumnIndexes) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.csvColumnIndexes = csvColumnIndexes;
+    }
+
+    static AssetImportParser ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new AssetImportParser(reader, objectMapper, null);
+    }
+
+    static AssetImportParser csv(BufferedReader reader) throws IOException {
+        String header = nextNonBlankLine(reader);
+        if (header == null) {
+            throw new BadRequestException("CSV import is missing its header row");
+        }
+        List<String> names = splitCsvLine(header);
+        int[] indexes = new int[CSV_COLUMNS.length];
+        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < names.size(); j++) {
+                if (names.get(j).trim().toLowerCase(Locale.ROOT).equals(CSV_COLUMNS[i])) {
+                    indexes[i] = j;
+                }
+            }
+        }
+        if (indexes[0] < 0 || indexes[1] < 0 || indexes[3] < 0) {
+            throw new BadRequestException("CSV header must name the assetTag, name and assetTypeId columns");
+        }
+        return new AssetImportParser(reader, null, indexes);
+    }
+
+    /**
+     * @return the next row, or null at the end of the body
+     */
+    ParsedRow next() throws IOException {
+        String line = nextNonBlankLine(reader);
+        if (line == null) {
+            return null;
+        }
+        row++;
+        try {
+            return new ParsedRow(row, csvColumnIndexes == null ? parseJson(line) : parseCsv(line), null);
+        } catch (JsonProcessingException e) {
+            return new ParsedRow(row, null, "Unreadable row: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new ParsedRow(row, null, "Unreadable row: " + e.getMessage());
+        }
+    }
+
+    private CreateAssetRequest parseJson(String line) throws JsonProcessingException {
+        return objectMapper.readValue(line, CreateAssetRequest.class);
+    }
+
+    private CreateAssetRequest parseCsv(String line) {
+        List<String> fields = splitCsvLine(line);
+        String assetTypeId = field(fields, csvColumnIndexes[3]);
+        return new CreateAssetRequest(
+                field(fields, csvColumnIndexes[0]),
+                field(fields, csvColumnIndexes[1]),
+                field(fields, csvColumnIndexes[2]),
+                assetTypeId == null ? null : Long.valueOf(assetTypeId)
+        );
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index).trim();
+    }
+
+    private static String nextNonBlankLine(BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,251 @@
+package com.safework.api.domain.asset.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.dto.AssetImportReport;
+import com.safework.api.domain.asset.dto.AssetImportRowResult;
+import com.safework.api.domain.asset.dto.CreateAssetRequest;
+import com.safework.api.domain.asset.event.AssetChangedEvent;
+import com.safework.api.domain.asset.model.AssetStatus;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.asset.repository.AssetTypeRepository;
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates assets in bulk from a streamed NDJSON or CSV upload.
+ *
+ * Rows are read and handled in chunks: each chunk is validated, its asset types and tag/QR uniqueness are checked
+ * with one query apiece, and the surviving rows are written with a single JDBC batch in their own transaction,
+ * under ids from the shared {@link TimeOrderedIdAllocator}.
+ * If that batch fails (a concurrent writer took a tag or code after the check), the chunk is retried row by row
+ * so only the offending rows are rejected. Earlier chunks stay committed either way.
+ */
+@Service
+public class AssetImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO assets "
+            + "(id, asset_tag, name, qr_code_id, organization_id, asset_type_id, status, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final AssetRepository assetRepository;
+    private final AssetTypeRepository assetTypeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TimeOrderedIdAllocator idAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final long maxRows;
+
+    public AssetImportService(AssetRepository assetRepository,
+                              AssetTypeRepository assetTypeRepository,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              TimeOrderedIdAllocator idAllocator,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${safework.assets.import.chunk-size:1000}") int chunkSize,
+                              @Value("${safework.assets.import.max-rows:100000}") long maxRows) {
+        this.assetRepository = assetRepository;
+        this.assetTypeRepository = assetTypeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.idAllocator = idAllocator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Imports every row of the body into the current user's organization.
+     * @param contentType application/x-ndjson or text/csv; its charset defaults to UTF-8
+     * @return one result per data row, in input order
+     */
+    public AssetImportReport importAssets(InputStream body, MediaType contentType, AuthenticatedUser currentUser) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        AssetImportParser parser = "csv".equals(contentType.getSubtype())
+                ? AssetImportParser.csv(reader)
+                : AssetImportParser.ndjson(reader, objectMapper);
+
+        ImportState state = new ImportState(currentUser.organizationId());
+        List<AssetImportParser.ParsedRow> chunk = new ArrayList<>(chunkSize);
+        AssetImportParser.ParsedRow row;
+        while ((row = parser.next()) != null) {
+            if (row.row() > maxRows) {
+                state.results.add(new AssetImportRowResult(row.row(), null, null, AssetImportRowResult.REJECTED,
+                        "Import is limited to " + maxRows + " rows; this and any following rows were not read"));
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, state);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, state);
+        }
+
+        long created = state.results.stream().filter(r -> AssetImportRowResult.CREATED.equals(r.status())).count();
+        return new AssetImportReport(state.results.size(), created, state.results.size() - created, state.results);
+    }
+
+    private void importChunk(List<AssetImportParser.ParsedRow> chunk, ImportState state) {
+        AssetImportRowResult[] results = new AssetImportRowResult[chunk.size()];
+
+        // 1. Row-level checks: readable, valid, and not repeating a tag or code from earlier in the upload
+        List<Integer> candidates = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            AssetImportParser.ParsedRow row = chunk.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request(), state);
+            if (error != null) {
+                results[i] = rejected(row, error);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. Chunk-level checks: one query each for asset types, existing tags and existing QR codes
+        List<CreateAssetRequest> requests = candidates.stream().map(i -> chunk.get(i).request()).toList();
+        Set<Long> knownTypes = requests.isEmpty() ? Set.of() : new HashSet<>(assetTypeRepository.findIdsByOrganizationIdAndIdIn(
+                state.organizationId, requests.stream().map(CreateAssetRequest::assetTypeId).collect(Collectors.toSet())));
+        Set<String> takenTags = requests.isEmpty() ? Set.of() : new HashSet<>(assetRepository.findExistingAssetTags(
+                requests.stream().map(CreateAssetRequest::assetTag).toList()));
+        List<String> qrCodeIds = requests.stream().map(CreateAssetRequest::qrCodeId).filter(Objects::nonNull).toList();
+        Set<String> takenQrCodes = qrCodeIds.isEmpty() ? Set.of() : new HashSet<>(assetRepository.findExistingQrCodeIds(qrCodeIds));
+
+        List<Integer> insertable = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            CreateAssetRequest request = chunk.get(i).request();
+            if (!knownTypes.contains(request.assetTypeId())) {
+                results[i] = rejected(chunk.get(i), "AssetType not found with id: " + request.assetTypeId());
+            } else if (takenTags.contains(request.assetTag())) {
+                results[i] = rejected(chunk.get(i), "Asset tag already exists: " + request.assetTag());
+            } else if (request.qrCodeId() != null && takenQrCodes.contains(request.qrCodeId())) {
+                results[i] = rejected(chunk.get(i), "QR code already exists: " + request.qrCodeId());
+            } else {
+                insertable.add(i);
+            }
+        }
+
+        // 3. One batch for the whole chunk, falling back to row-by-row inserts if it fails
+        if (!insertable.isEmpty()) {
+            List<PendingAsset> pending = insertable.stream()
+                    .map(i -> new PendingAsset(i, idAllocator.nextId(), chunk.get(i).request()))
+                    .toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(pending, state.organizationId));
+                pending.forEach(asset -> results[asset.index()] = created(chunk.get(asset.index()), asset.id()));
+            } catch (DataAccessException batchFailure) {
+                for (PendingAsset asset : pending) {
+                    AssetImportParser.ParsedRow row = chunk.get(asset.index());
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insert(List.of(asset), state.organizationId));
+                        results[asset.index()] = created(row, asset.id());
+                    } catch (DataAccessException rowFailure) {
+                        results[asset.index()] = rejected(row, "Could not insert row: " + rowFailure.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+        }
+
+        state.results.addAll(List.of(results));
+    }
+
+    private String validate(CreateAssetRequest request, ImportState state) {
+        Set<ConstraintViolation<CreateAssetRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+        }
+        if (!state.seenTags.add(request.assetTag())) {
+            return "Duplicate asset tag in import: " + request.assetTag();
+        }
+        if (request.qrCodeId() != null && !state.seenQrCodes.add(request.qrCodeId())) {
+            return "Duplicate QR code in import: " + request.qrCodeId();
+        }
+        return null;
+    }
+
+    /**
+     * Writes the rows in one JDBC batch and announces each new asset once the surrounding transaction commits.
+     */
+    private void insert(List<PendingAsset> assets, Long organizationId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String status = AssetStatus.INACTIVE.name(); // Same default as a single create
+        jdbcTemplate.batchUpdate(INSERT_SQL, assets, assets.size(), (ps, asset) -> {
+            ps.setLong(1, asset.id());
+            ps.setString(2, asset.request().assetTag());
+            ps.setString(3, asset.request().name());
+            ps.setString(4, asset.request().qrCodeId());
+            ps.setLong(5, organizationId);
+            ps.setLong(6, asset.request().assetTypeId());
+            ps.setString(7, status);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+        for (PendingAsset asset : assets) {
+            CreateAssetRequest request = asset.request();
+            AssetDto dto = new AssetDto(asset.id(), request.assetTag(), request.name(), request.qrCodeId(),
+                    status, organizationId, null, 0);
+            eventPublisher.publishEvent(new AssetChangedEvent(organizationId, asset.id(), null, dto));
+        }
+    }
+
+    private static AssetImportRowResult created(AssetImportParser.ParsedRow row, long assetId) {
+        return new AssetImportRowResult(row.row(), row.request().assetTag(), assetId, AssetImportRowResult.CREATED, null);
+    }
+
+    private static AssetImportRowResult rejected(AssetImportParser.ParsedRow row, String error) {
+        return new AssetImportRowResult(row.row(), row.request() != null ? row.request().assetTag() : null, null,
+                AssetImportRowResult.REJECTED, error);
+    }
+
+    /**
+     * A row that passed every check, with the id it will be inserted under.
+     */
+    private record PendingAsset(int index, long id, CreateAssetRequest request) {}
+
+    /**
+     * Per-upload bookkeeping shared across chunks.
+     */
+    private static final class ImportState {
+        private final Long organizationId;
+        private final Set<String> seenTags = new HashSet<>();
+        private final Set<String> seenQrCodes = new HashSet<>();
+        private final List<AssetImportRowResult> results = new ArrayList<>();
+
+        private ImportState(Long organizationId) {
+            this.organizationId = organizationId;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.safework.api.domain.asset.service;
+
+import com.safework.api.domain.asset.dto.FieldChange;
+import com.safework.api.domain.asset.dto.MergeAssetRequest;
+import com.safework.api.domain.asset.model.Asset;
+import com.safework.api.domain.asset.model.AssetStatus;
+import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.user.repository.UserRepository;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.exception.ConflictException;
+import com.safework.api.exception.ResourceNotFoundException;
+import com.safework.api.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Three-way merge of a client's field edits into the current asset, so an edit made against an older version
+ * only fails when it really collides with someone else's change.
+ *
+ * A changed field applies if the server still holds the client's base value for it (nobody else touched it).
+ * If the server already holds the client's new value, both sides made the same edit and it is a no-op.
+ * Otherwise the field collides, and the whole edit is rejected with 409 naming the colliding fields.
+ * Each custom attribute key is merged as a field of its own.
+ *
+ * Outcomes are counted in {@value #MERGE_COUNTER}: "clean" (no concurrent change), "merged" (auto-merged over
+ * one) and "conflict".
+ */
+@Component
+public class AssetMerger {
+
+    private static final String MERGE_COUNTER = "safework.assets.merges";
+
+    private final UserRepository userRepository;
+    private final Counter cleanMerges;
+    private final Counter autoMerges;
+    private final Counter conflicts;
+
+    public AssetMerger(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cleanMerges = mergeCounter(meterRegistry, "clean");
+        this.autoMerges = mergeCounter(meterRegistry, "merged");
+        this.conflicts = mergeCounter(meterRegistry, "conflict");
+    }
+
+    private static Counter mergeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(MERGE_COUNTER)
+                .description("Asset edits applied by three-way merge, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies the request's changes to the (managed) asset, or changes nothing and throws.
+     *
+     * @throws ConflictException if a changed field was also changed, differently, on the server
+     */
+    public void merge(Asset asset, MergeAssetRequest request, AuthenticatedUser currentUser) {
+        // At the base version nothing has happened since the client's read, so every change applies as is
+        boolean concurrent = request.baseVersion() != asset.getVersion();
+        List<String> collisions = new ArrayList<>();
+        List<Runnable> updates = new ArrayList<>();
+
+        if (applies("name", request.name(), asset.getName(), concurrent, collisions)) {
+            String name = request.name().value();
+            if (name == null || name.isBlank()) {
+                throw new BadRequestException("Asset name cannot be blank");
+            }
+            updates.add(() -> asset.setName(name));
+        }
+        if (applies("status", request.status(), asset.getStatus().name(), concurrent, collisions)) {
+            AssetStatus status = parseStatus(request.status().value());
+            updates.add(() -> asset.setStatus(status));
+        }
+        Long assignedToUserId = asset.getAssignedTo() != null ? asset.getAssignedTo().getId() : null;
+        if (applies("assignedToUserId", request.assignedToUserId(), assignedToUserId, concurrent, collisions)) {
+            User assignee = resolveAssignee(request.assignedToUserId().value(), currentUser);
+            updates.add(() -> asset.setAssignedTo(assignee));
+        }
+        if (request.customAttributes() != null && !request.customAttributes().isEmpty()) {
+            Map<String, Object> current = asset.getCustomAttributes() != null ? asset.getCustomAttributes() : Map.of();
+            Map<String, Object> merged = new HashMap<>(current);
+            for (Map.Entry<String, FieldChange<Object>> entry : request.customAttributes().entrySet()) {
+                FieldChange<Object> change = entry.getValue();
+                if (applies("customAttributes." + entry.getKey(), change, current.get(entry.getKey()), concurrent, collisions)) {
+                    if (change.value() == null) {
+                        merged.remove(entry.getKey());
+                    } else {
+                        merged.put(entry.getKey(), change.value());
+                    }
+                }
+            }
+            if (!merged.equals(current)) {
+                updates.add(() -> asset.setCustomAttributes(merged));
+            }
+        }
+
+        if (!collisions.isEmpty()) {
+            conflicts.increment();
+            throw new ConflictException("Conflict: " + String.join(", ", collisions)
+                    + " changed on the server since version " + request.baseVersion() + ". Please refresh and try again.");
+        }
+        updates.forEach(Runnable::run);
+        (concurrent ? autoMerges : cleanMerges).increment();
+    }
+
+    /**
+     * @return true if the change should be written; false if there is none, it is already in place, or it collides
+     */
+    private static <T> boolean applies(String field, FieldChange<T> change, T current, boolean concurrent, List<String> collisions) {
+        if (change == null) {
+            return false;
+        }
+        if (!concurrent || Objects.equals(current, change.base())) {
+            return true;
+        }
+        if (!Objects.equals(current, change.value())) {
+            collisions.add(field);
+        }
+        return false;
+    }
+
+    private User resolveAssignee(Long userId, AuthenticatedUser currentUser) {
+        if (userId == null) {
+            return null;
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        // --- Multi-Tenancy Security Check ---
+        if (!user.getOrganization().getId().equals(currentUser.organizationId())) {
+            throw new BadRequestException("Assets can only be assigned to users of your organization.");
+        }
+        return user;
+    }
+
+    private static AssetStatus parseStatus(String status) {
+        if (status == null) {
+            throw new BadRequestException("Status is required");
+        }
+        try {
+            return AssetStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid asset status: " + status);
+        }
+    }
+}
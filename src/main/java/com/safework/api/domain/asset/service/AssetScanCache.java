@@ -0,0 +1,71 @@
+package com.safework.api.domain.asset.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.event.AssetChangedEvent;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Write-through cache of QR scan results, keyed by (organization, QR code) so tenants never share entries.
+ * Misses are answered by a single tenant-scoped projection query.
+ *
+ * Committed asset changes replace or drop the affected entries (see {@link AssetChangedEvent}),
+ * and the TTL bounds how long a change made outside AssetService can go unnoticed.
+ * Hit/miss/eviction counts are exported as the "asset-scans" cache in Micrometer.
+ */
+@Component
+public class AssetScanCache {
+
+    private record ScanKey(Long organizationId, String qrCodeId) {}
+
+    private final Cache<ScanKey, AssetDto> cache;
+    private final AssetRepository assetRepository;
+
+    public AssetScanCache(AssetRepository assetRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${safework.assets.scan-cache.max-size:20000}") long maxSize,
+                          @Value("${safework.assets.scan-cache.ttl:10m}") Duration ttl) {
+        this.assetRepository = assetRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "asset-scans");
+    }
+
+    /**
+     * Resolves a scanned QR code within an organization, loading it from the database on a miss.
+     * @return the asset, or empty if the organization has no asset with that QR code
+     */
+    public Optional<AssetDto> get(Long organizationId, String qrCodeId) {
+        ScanKey key = new ScanKey(organizationId, qrCodeId);
+        AssetDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Unknown codes are not cached so that a label attached later resolves immediately
+        Optional<AssetDto> loaded = assetRepository.findDtoByOrganizationIdAndQrCodeId(organizationId, qrCodeId);
+        loaded.ifPresent(asset -> cache.put(key, asset));
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (event.previousQrCodeId() != null) {
+            cache.invalidate(new ScanKey(event.organizationId(), event.previousQrCodeId()));
+        }
+        if (!event.isDeletion() && event.asset().qrCodeId() != null) {
+            cache.put(new ScanKey(event.organizationId(), event.asset().qrCodeId()), event.asset());
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.safework.api.domain.asset.service;
+
+import com.safework.api.domain.asset.dto.AssetSearchDocument;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over one organization's assets, for search-as-you-type on asset tag, name, QR code,
+ * asset type name and location name.
+ *
+ * Text is lower-cased and stripped of accents. Every field is broken into trigrams, and every word of a field into
+ * its one- and two-character prefixes; each such gram maps to the sorted ordinals of the assets containing it.
+ * A query is split on whitespace and every word must match some field: words of three or more characters as a
+ * substring (found by intersecting the posting lists of their trigrams), shorter words as the start of a word.
+ * Candidates are then checked against the text itself, so grams that merely co-occur never match.
+ *
+ * Matches are ranked by where each query word was found: a whole field beats the start of a field, which beats the
+ * start of a word, which beats anywhere else; and the tag and QR code outweigh the name, which outweighs the type
+ * and location. Equal scores are ordered by asset id.
+ *
+ * Updates never rewrite posting lists: a changed asset gets a new ordinal, appended to the lists of its grams,
+ * and its old ordinal is marked dead. Once dead ordinals outnumber live ones the index rebuilds itself.
+ * Safe for concurrent use: searches share a read lock, updates take the write lock.
+ */
+public final class AssetSearchIndex {
+
+    /**
+     * Searchable fields, in document order, with their ranking weights.
+     */
+    enum Field {
+        ASSET_TAG(4), QR_CODE(4), NAME(3), ASSET_TYPE(1), LOCATION(1);
+
+        final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * The best-ranked assets for a query, and how many assets matched in all.
+     */
+    public record Result(List<Long> assetIds, int total) {}
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PREFIX_MARK = 1; // Starts prefix grams, so they never collide with trigrams
+    private static final int MIN_DEAD_FOR_REBUILD = 1024;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Field[] FIELDS = Field.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Document> documents = new ArrayList<>(); // By ordinal; null once dead
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private int deadDocuments;
+    private long textChars;
+    private long postingEntries;
+
+    private record Document(long assetId, String[] fields) {}
+
+    /**
+     * Adds an asset, or replaces the indexed text of one already present.
+     */
+    public void put(AssetSearchDocument asset) {
+        String[] fields = new String[FIELDS.length];
+        fields[Field.ASSET_TAG.ordinal()] = normalize(asset.assetTag());
+        fields[Field.QR_CODE.ordinal()] = normalize(asset.qrCodeId());
+        fields[Field.NAME.ordinal()] = normalize(asset.name());
+        fields[Field.ASSET_TYPE.ordinal()] = normalize(asset.assetTypeName());
+        fields[Field.LOCATION.ordinal()] = normalize(asset.locationName());
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordinals.get(asset.id());
+            if (previous != null && Arrays.equals(documents.get(previous).fields(), fields)) {
+                return; // Nothing searchable changed
+            }
+            kill(previous);
+            append(new Document(asset.id(), fields));
+            rebuildIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops an asset; unknown ids are ignored.
+     */
+    public void remove(Long assetId) {
+        lock.writeLock().lock();
+        try {
+            kill(ordinals.remove(assetId));
+            rebuildIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param limit the number of best-ranked asset ids to return
+     */
+    public Result search(String query, int limit) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalize(query).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        if (words.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+        Set<String> grams = new HashSet<>();
+        for (String word : words) {
+            grams.addAll(queryGrams(word));
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[grams.size()];
+            int i = 0;
+            for (String gram : grams) {
+                lists[i] = postings.get(gram);
+                if (lists[i++] == null) {
+                    return new Result(List.of(), 0); // Some word cannot match anything
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+
+            // Min-heap of the best hits so far: lowest score, then highest id, on top
+            PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::score)
+                    .thenComparing(Comparator.comparingLong(Hit::assetId).reversed()));
+            int total = 0;
+            Postings shortest = lists[0];
+            candidates:
+            for (int p = 0; p < shortest.size(); p++) {
+                int ordinal = shortest.get(p);
+                Document document = documents.get(ordinal);
+                if (document == null) {
+                    continue;
+                }
+                for (int l = 1; l < lists.length; l++) {
+                    if (!lists[l].contains(ordinal)) {
+                        continue candidates;
+                    }
+                }
+                double score = score(document, words);
+                if (score == 0) {
+                    continue;
+                }
+                total++;
+                if (limit > 0) {
+                    best.add(new Hit(document.assetId(), score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+
+            Long[] ranked = new Long[best.size()];
+            for (int r = ranked.length - 1; r >= 0; r--) {
+                ranked[r] = best.poll().assetId();
+            }
+            return new Result(List.of(ranked), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of assets indexed
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate heap used by the index: object headers, map entries and arrays, at 8-byte references.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return 256
+                    + documents.size() * 8L + ordinals.size() * 64L // Slots and id map entries
+                    + (documents.size() - deadDocuments) * (32L + FIELDS.length * 48L) + textChars // Live documents
+                    + postings.size() * 112L + postingEntries * 6L; // Gram entries, and list slots with growth room
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Hit(long assetId, double score) {}
+
+    /**
+     * @return the query's score for a document, or 0 if some word matches no field
+     */
+    private static double score(Document document, List<String> words) {
+        double score = 0;
+        for (String word : words) {
+            boolean prefixOnly = word.length() < GRAM_LENGTH;
+            double best = 0;
+            for (Field field : FIELDS) {
+                best = Math.max(best, field.weight * quality(document.fields()[field.ordinal()], word, prefixOnly));
+            }
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private static double quality(String text, String word, boolean prefixOnly) {
+        if (text.equals(word)) {
+            return 3;
+        }
+        if (text.startsWith(word)) {
+            return 2;
+        }
+        boolean inside = false;
+        for (int at = text.indexOf(word, 1); at > 0; at = text.indexOf(word, at + 1)) {
+            if (!Character.isLetterOrDigit(text.charAt(at - 1))) {
+                return 1.5; // Start of a word
+            }
+            inside = true;
+        }
+        return inside && !prefixOnly ? 1 : 0;
+    }
+
+    private void append(Document document) {
+        int ordinal = documents.size();
+        documents.add(document);
+        ordinals.put(document.assetId(), ordinal);
+        Set<String> grams = new HashSet<>();
+        for (String text : document.fields()) {
+            textChars += text.length() * 2L;
+            documentGrams(text, grams);
+        }
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(ordinal);
+        }
+        postingEntries += grams.size();
+    }
+
+    private void kill(Integer ordinal) {
+        if (ordinal == null) {
+            return;
+        }
+        Document document = documents.set(ordinal, null);
+        for (String text : document.fields()) {
+            textChars -= text.length() * 2L;
+        }
+        deadDocuments++;
+    }
+
+    /**
+     * Re-indexes the live documents under fresh ordinals once dead ones dominate the posting lists.
+     */
+    private void rebuildIfSparse() {
+        if (deadDocuments < MIN_DEAD_FOR_REBUILD || deadDocuments < documents.size() - deadDocuments) {
+            return;
+        }
+        List<Document> live = new ArrayList<>(documents.size() - deadDocuments);
+        for (Document document : documents) {
+            if (document != null) {
+                live.add(document);
+            }
+        }
+        documents.clear();
+        ordinals.clear();
+        postings.clear();
+        deadDocuments = 0;
+        textChars = 0;
+        postingEntries = 0;
+        live.forEach(this::append);
+    }
+
+    private static void documentGrams(String text, Set<String> grams) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inWord && wordStart < 0) {
+                wordStart = i;
+            } else if (!inWord && wordStart >= 0) {
+                for (int length = 1; length < GRAM_LENGTH && wordStart + length <= i; length++) {
+                    grams.add(PREFIX_MARK + text.substring(wordStart, wordStart + length));
+                }
+                wordStart = -1;
+            }
+        }
+    }
+
+    private static List<String> queryGrams(String word) {
+        if (word.length() < GRAM_LENGTH) {
+            return List.of(PREFIX_MARK + word);
+        }
+        List<String> grams = new ArrayList<>(word.length() - GRAM_LENGTH + 1);
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) >= 0x80) {
+                // Decompose accented letters and drop the accents, so "süd" is found by "sud"
+                return COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Growable, ascending list of ordinals. Ordinals are only ever appended in increasing order.
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size + (size >> 1));
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int get(int index) {
+            return ordinals[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+    }
+}
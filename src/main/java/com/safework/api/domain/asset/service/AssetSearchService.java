@@ -0,0 +1,274 @@
+package com.safework.api.domain.asset.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.dto.AssetSearchDocument;
+import com.safework.api.domain.asset.event.AssetChangedEvent;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.util.CacheFootprint;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.security.AuthenticatedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ranked search over an organization's assets by tag, name, QR code, asset type and location, answered from a
+ * per-organization {@link AssetSearchIndex} instead of LIKE '%x%' scans.
+ *
+ * An organization's index is filled on its first search, in id-ordered chunks. Committed asset changes
+ * (see {@link AssetChangedEvent}) mark the asset as changed, and the next search re-reads the changed assets with
+ * one query before answering, so results never miss a committed change. The ranked ids are then resolved to
+ * current AssetDtos with one query for the page.
+ *
+ * Memory is bounded twice over: organizations with more than max-assets-per-organization assets are not indexed
+ * (their searches fall back to a prefix query on tag, QR code and name), and the indexes of all organizations
+ * share a heap budget, least recently used first out. Indexes are also rebuilt after a TTL, which bounds how long
+ * a renamed asset type or location, or a change made outside the services, can go unnoticed.
+ * Hits and misses are exported as the "asset-search" cache in Micrometer, and the estimated heap as
+ * {@value #FOOTPRINT_GAUGE}.
+ */
+@Service
+public class AssetSearchService {
+
+    private static final String FOOTPRINT_GAUGE = "safework.assets.search.bytes";
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_RANKED_RESULTS = 1000;
+    private static final int LOAD_CHUNK_SIZE = 2000;
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final AssetRepository assetRepository;
+    private final Cache<Long, OrganizationIndex> indexes;
+    private final long maxAssetsPerOrganization;
+
+    public AssetSearchService(AssetRepository assetRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${safework.assets.search.max-size:256MB}") DataSize maxSize,
+                              @Value("${safework.assets.search.max-assets-per-organization:100000}") long maxAssetsPerOrganization,
+                              @Value("${safework.assets.search.ttl:30m}") Duration ttl) {
+        this.assetRepository = assetRepository;
+        this.maxAssetsPerOrganization = maxAssetsPerOrganization;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long organizationId, OrganizationIndex index) -> (int) Math.min(Integer.MAX_VALUE, index.estimatedBytes()))
+                .expireAfter(rebuildAfter(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "asset-search");
+        CacheFootprint.monitor(meterRegistry, indexes, FOOTPRINT_GAUGE, "Estimated heap used by in-memory asset search indexes");
+    }
+
+    /**
+     * Expires an index a fixed time after it was created. Re-putting an index to re-weigh it keeps its deadline,
+     * so a busy organization's index is still rebuilt on schedule.
+     */
+    private static Expiry<Long, OrganizationIndex> rebuildAfter(Duration ttl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long organizationId, OrganizationIndex index, long currentTime) {
+                return ttl.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(Long organizationId, OrganizationIndex index, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long organizationId, OrganizationIndex index, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    /**
+     * Searches the current user's organization. Every word of the query must match one of the fields.
+     * Runs without a transaction of its own: each read takes a fresh snapshot, so an asset marked changed is
+     * always re-read after its change committed.
+     *
+     * @throws BadRequestException if the query is blank or too long, or the page lies beyond the ranked results
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<AssetDto> search(String query, Pageable pageable, AuthenticatedUser currentUser) {
+        String trimmed = query == null ? "" : query.strip();
+        if (trimmed.isEmpty() || trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RANKED_RESULTS) {
+            throw new BadRequestException("Only the first " + MAX_RANKED_RESULTS + " results can be paged through; refine the query");
+        }
+
+        Long organizationId = currentUser.organizationId();
+        OrganizationIndex index = indexes.get(organizationId, id -> new OrganizationIndex());
+        if (!ensureCurrent(organizationId, index)) {
+            return prefixSearch(organizationId, trimmed, pageable);
+        }
+
+        AssetSearchIndex.Result result = index.search(trimmed, (int) pageable.getOffset() + pageable.getPageSize());
+        List<Long> pageIds = result.assetIds().subList(
+                (int) Math.min(pageable.getOffset(), result.assetIds().size()), result.assetIds().size());
+        Map<Long, AssetDto> assets = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            assetRepository.findDtosByOrganizationIdAndIdIn(organizationId, pageIds)
+                    .forEach(asset -> assets.put(asset.id(), asset));
+        }
+        List<AssetDto> content = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            AssetDto asset = assets.get(id);
+            if (asset != null) { // Deleted since the index was refreshed
+                content.add(asset);
+            }
+        }
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        // Organizations nobody has searched yet have no index to keep current
+        OrganizationIndex index = indexes.getIfPresent(event.organizationId());
+        if (index != null && !index.oversized) {
+            index.changed.add(event.assetId());
+        }
+    }
+
+    /**
+     * Fills the index on first use and applies the changes marked since the last search.
+     *
+     * @return false if the organization is too large to index
+     */
+    private boolean ensureCurrent(Long organizationId, OrganizationIndex index) {
+        if (!index.loaded) {
+            synchronized (index) {
+                if (!index.loaded) {
+                    load(organizationId, index);
+                    index.loaded = true;
+                    indexes.put(organizationId, index); // Re-weighs the entry at its loaded size
+                }
+            }
+        }
+        if (index.oversized) {
+            return false;
+        }
+        if (!index.changed.isEmpty()) {
+            // One refresh at a time, so an older read of an asset can never overwrite a newer one
+            synchronized (index) {
+                refresh(organizationId, index);
+                if (index.size() > maxAssetsPerOrganization) {
+                    index.oversized = true;
+                    index.clear();
+                    return false;
+                }
+            }
+            indexes.put(organizationId, index);
+        }
+        return true;
+    }
+
+    private void load(Long organizationId, OrganizationIndex index) {
+        if (assetRepository.countByOrganizationId(organizationId) > maxAssetsPerOrganization) {
+            index.oversized = true;
+            return;
+        }
+        long afterId = 0;
+        Slice<AssetSearchDocument> chunk;
+        do {
+            chunk = assetRepository.findSearchDocumentsByOrganizationIdAfter(organizationId, afterId, PageRequest.ofSize(LOAD_CHUNK_SIZE));
+            for (AssetSearchDocument asset : chunk) {
+                index.put(asset);
+                afterId = asset.id();
+            }
+        } while (chunk.hasNext());
+    }
+
+    /**
+     * Re-reads the assets marked changed: those still present are re-indexed, the others removed.
+     * If a read fails, the unapplied ids are marked again for the next search.
+     */
+    private void refresh(Long organizationId, OrganizationIndex index) {
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> changed = index.changed.iterator(); changed.hasNext(); ) {
+            ids.add(changed.next());
+            changed.remove();
+        }
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size()));
+            List<AssetSearchDocument> assets;
+            try {
+                assets = assetRepository.findSearchDocumentsByOrganizationIdAndIdIn(organizationId, chunk);
+            } catch (RuntimeException e) {
+                index.changed.addAll(ids.subList(from, ids.size()));
+                throw e;
+            }
+            Set<Long> missing = new HashSet<>(chunk);
+            for (AssetSearchDocument asset : assets) {
+                index.put(asset);
+                missing.remove(asset.id());
+            }
+            missing.forEach(index::remove);
+        }
+    }
+
+    private Page<AssetDto> prefixSearch(Long organizationId, String query, Pageable pageable) {
+        String pattern = query.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        return assetRepository.findDtosByOrganizationIdAndPrefix(organizationId, pattern,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    /**
+     * One organization's index, with the assets changed since it was last brought up to date.
+     */
+    private static final class OrganizationIndex {
+
+        private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+        private volatile AssetSearchIndex index = new AssetSearchIndex();
+        private volatile boolean loaded;
+        private volatile boolean oversized;
+
+        void put(AssetSearchDocument asset) {
+            index.put(asset);
+        }
+
+        void remove(Long assetId) {
+            index.remove(assetId);
+        }
+
+        AssetSearchIndex.Result search(String query, int limit) {
+            return index.search(query, limit);
+        }
+
+        int size() {
+            return index.size();
+        }
+
+        void clear() {
+            index = new AssetSearchIndex();
+            changed.clear();
+        }
+
+        long estimatedBytes() {
+            return index.estimatedBytes();
+        }
+    }
+}
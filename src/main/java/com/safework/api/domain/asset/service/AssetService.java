@@ -2,41 +2,91 @@ package com.safework.api.domain.asset.service;
 
 import com.safework.api.domain.asset.dto.AssetDto;
 import com.safework.api.domain.asset.dto.CreateAssetRequest;
+import com.safework.api.domain.asset.dto.MergeAssetRequest;
 import com.safework.api.domain.asset.dto.UpdateAssetRequest;
+import com.safework.api.domain.asset.event.AssetChangedEvent;
 import com.safework.api.domain.asset.mapper.AssetMapper;
 import com.safework.api.domain.asset.model.Asset;
 import com.safework.api.domain.asset.model.AssetStatus;
+import com.safework.api.domain.asset.model.AssetType;
+import com.safework.api.domain.asset.repository.AssetAttributeIndexRepository;
 import com.safework.api.domain.asset.repository.AssetRepository;
 import com.safework.api.domain.asset.repository.AssetTypeRepository;
-import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.organization.repository.OrganizationRepository;
+import com.safework.api.domain.sync.model.SyncEntityType;
+import com.safework.api.domain.sync.service.SyncChangeLog;
+import com.safework.api.domain.util.CursorPage;
+import com.safework.api.domain.util.ETags;
+import com.safework.api.domain.util.KeysetCursor;
+import com.safework.api.exception.BadRequestException;
 import com.safework.api.exception.ConflictException;
 import com.safework.api.exception.ResourceNotFoundException;
+import com.safework.api.security.AuthenticatedUser;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
 @Service
 @Transactional // Ensures all database operations in a method are atomic
 public class AssetService {
 
+    private static final String ETAG_RESOURCE = "asset";
+    private static final String ETAG_COLLECTION = "assets";
+    private static final String ATTRIBUTE_FILTER_PREFIX = "attr.";
+    private static final int MAX_ATTRIBUTE_SCANS = 20; // Index chunks read per page before returning a short one
+
     private final AssetRepository assetRepository;
     private final AssetTypeRepository assetTypeRepository;
+    private final OrganizationRepository organizationRepository;
     private final AssetMapper assetMapper;
+    private final AssetScanCache assetScanCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncChangeLog syncChangeLog;
+    private final AssetMerger assetMerger;
+    private final AssetAttributeSchemaCache attributeSchemaCache;
+    private final AssetAttributeIndex attributeIndex;
+    private final AssetAttributeIndexRepository attributeIndexRepository;
 
-    public AssetService(AssetRepository assetRepository, AssetTypeRepository assetTypeRepository, AssetMapper assetMapper) {
+    public AssetService(AssetRepository assetRepository, AssetTypeRepository assetTypeRepository,
+                        OrganizationRepository organizationRepository, AssetMapper assetMapper,
+                        AssetScanCache assetScanCache, ApplicationEventPublisher eventPublisher,
+                        SyncChangeLog syncChangeLog, AssetMerger assetMerger,
+                        AssetAttributeSchemaCache attributeSchemaCache, AssetAttributeIndex attributeIndex,
+                        AssetAttributeIndexRepository attributeIndexRepository) {
         this.assetRepository = assetRepository;
         this.assetTypeRepository = assetTypeRepository;
+        this.organizationRepository = organizationRepository;
         this.assetMapper = assetMapper;
+        this.assetScanCache = assetScanCache;
+        this.eventPublisher = eventPublisher;
+        this.syncChangeLog = syncChangeLog;
+        this.assetMerger = assetMerger;
+        this.attributeSchemaCache = attributeSchemaCache;
+        this.attributeIndex = attributeIndex;
+        this.attributeIndexRepository = attributeIndexRepository;
     }
 
-    public AssetDto createAsset(CreateAssetRequest request, User currentUser) {
+    public AssetDto createAsset(CreateAssetRequest request, AuthenticatedUser currentUser) {
         var assetType = assetTypeRepository.findById(request.assetTypeId())
                 .orElseThrow(() -> new ResourceNotFoundException("AssetType not found with id: " + request.assetTypeId()));
 
         Asset newAsset = new Asset();
-        newAsset.setOrganization(currentUser.getOrganization());
+        newAsset.setOrganization(organizationRepository.getReferenceById(currentUser.organizationId()));
         newAsset.setAssetType(assetType);
         newAsset.setAssetTag(request.assetTag());
         newAsset.setName(request.name());
@@ -44,22 +94,137 @@ public class AssetService {
         newAsset.setStatus(AssetStatus.INACTIVE); // Default status on creation
 
         Asset savedAsset = assetRepository.save(newAsset);
-        return assetMapper.toDto(savedAsset);
+        AssetDto dto = assetMapper.toDto(savedAsset);
+        eventPublisher.publishEvent(new AssetChangedEvent(currentUser.organizationId(), dto.id(), null, dto));
+        return dto;
     }
 
     @Transactional(readOnly = true)
     public Page<AssetDto> findAllByOrganization(Long organizationId, Pageable pageable) {
-        Page<Asset> assets = assetRepository.findAllByOrganizationId(organizationId, pageable);
-        return assets.map(assetMapper::toDto);
+        return assetRepository.findDtosByOrganizationId(organizationId, pageable);
+    }
+
+    /**
+     * Keyset-paginated listing: returns the assets following the given cursor in id order, without a count query.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AssetDto> findAllByOrganizationAfter(Long organizationId, String after, int size) {
+        long afterId = KeysetCursor.decode(after);
+        Slice<AssetDto> slice = assetRepository.findDtosByOrganizationIdAfter(
+                organizationId, afterId, PageRequest.ofSize(size));
+
+        var content = slice.getContent();
+        String nextCursor = slice.hasNext() ? KeysetCursor.encode(content.get(content.size() - 1).id()) : null;
+        return new CursorPage<>(content, size, slice.hasNext(), nextCursor);
+    }
+
+    /**
+     * Keyset-paginated listing of an asset type's assets whose indexed custom attributes equal the given values,
+     * e.g. {"attr.fuel": "LPG"}. Parameters without the "attr." prefix are ignored.
+     *
+     * The first filter drives the scan: its matches are read from the attribute index in id order, and each chunk
+     * is narrowed by the remaining filters with one index lookup apiece, until a page is filled. Only the page's
+     * assets are then loaded. Put the most selective filter first: if the filters rarely coincide, a page may come
+     * back short (even empty) with hasNext set, so one request never scans without bound.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AssetDto> findAllByAttributes(Long assetTypeId, Map<String, String> parameters, String after, int size,
+                                                    AuthenticatedUser currentUser) {
+        AssetType assetType = getAssetTypeForUser(assetTypeId, currentUser);
+        AssetAttributeSchema schema = attributeSchemaCache.forType(assetType);
+        List<AssetAttributeSchema.IndexedValue> criteria = new ArrayList<>();
+        parameters.forEach((name, value) -> {
+            if (name.startsWith(ATTRIBUTE_FILTER_PREFIX)) {
+                criteria.add(schema.criterion(name.substring(ATTRIBUTE_FILTER_PREFIX.length()), value));
+            }
+        });
+        if (criteria.isEmpty()) {
+            throw new BadRequestException("At least one " + ATTRIBUTE_FILTER_PREFIX + "<name>=<value> filter is required");
+        }
+
+        Long organizationId = currentUser.organizationId();
+        AssetAttributeSchema.IndexedValue driver = criteria.get(0);
+        List<Long> ids = new ArrayList<>(size + 1);
+        long afterId = KeysetCursor.decode(after);
+        boolean exhausted = false;
+        for (int scans = 0; ids.size() <= size && scans < MAX_ATTRIBUTE_SCANS; scans++) {
+            List<Long> chunk = attributeIndexRepository.findAssetIdsAfter(organizationId, assetTypeId,
+                    driver.key(), driver.value(), afterId, PageRequest.ofSize(size + 1));
+            if (chunk.isEmpty()) {
+                exhausted = true;
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1);
+            List<Long> matches = chunk;
+            for (AssetAttributeSchema.IndexedValue criterion : criteria.subList(1, criteria.size())) {
+                if (matches.isEmpty()) {
+                    break;
+                }
+                Set<Long> narrowed = new HashSet<>(attributeIndexRepository.findAssetIdsIn(organizationId, assetTypeId,
+                        criterion.key(), criterion.value(), matches));
+                matches = matches.stream().filter(narrowed::contains).toList();
+            }
+            ids.addAll(matches);
+            if (chunk.size() <= size) {
+                exhausted = true; // The index has no more matches for the driving filter
+                break;
+            }
+        }
+
+        // A full page resumes after its last asset; a short one after the last index entry scanned
+        boolean hasNext = ids.size() > size || !exhausted;
+        List<Long> pageIds = ids.size() > size ? ids.subList(0, size) : ids;
+        long resumeAfter = ids.size() > size ? pageIds.get(pageIds.size() - 1) : afterId;
+        List<AssetDto> content = pageIds.isEmpty() ? List.of() : assetRepository.findDtosByOrganizationIdAndIdIn(organizationId, pageIds)
+                .stream()
+                .sorted(Comparator.comparing(AssetDto::id))
+                .toList();
+        String nextCursor = hasNext ? KeysetCursor.encode(resumeAfter) : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * Resolves a scanned QR code for the current user's organization.
+     * Runs without a transaction of its own so a cache hit never touches the connection pool.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AssetDto findAssetByQrCode(String qrCodeId, AuthenticatedUser currentUser) {
+        return assetScanCache.get(currentUser.organizationId(), qrCodeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with QR code: " + qrCodeId));
+    }
+
+    /**
+     * ETag of an asset's current version, read without loading the asset.
+     * Empty if the asset does not exist or is not visible to the user; the full lookup then reports why.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findAssetETag(Long id, AuthenticatedUser currentUser) {
+        return assetRepository.findVersionByIdAndOrganizationId(id, currentUser.organizationId())
+                .map(version -> ETags.forVersion(ETAG_RESOURCE, id, version));
+    }
+
+    public static String assetETag(AssetDto asset) {
+        return ETags.forVersion(ETAG_RESOURCE, asset.id(), asset.version());
+    }
+
+    /**
+     * ETag of an organization's asset collection, shared by the listings: changes whenever an asset is
+     * created, updated or deleted. Read from the sync feed head, so it costs two index lookups however large
+     * the inventory; empty while the head has not settled, and the listing is then served untagged.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findOrganizationAssetsETag(Long organizationId) {
+        OptionalLong head = syncChangeLog.settledHead(organizationId);
+        return head.isPresent() ? Optional.of(ETags.forFeedHead(ETAG_COLLECTION, head.getAsLong())) : Optional.empty();
     }
 
     @Transactional(readOnly = true)
-    public AssetDto findAssetById(Long id, User currentUser) {
+    public AssetDto findAssetById(Long id, AuthenticatedUser currentUser) {
         Asset asset = getAssetForUser(id, currentUser);
         return assetMapper.toDto(asset);
     }
 
-    public AssetDto updateAsset(Long id, UpdateAssetRequest request, User currentUser) {
+    public AssetDto updateAsset(Long id, UpdateAssetRequest request, AuthenticatedUser currentUser) {
         Asset assetToUpdate = getAssetForUser(id, currentUser);
 
         // --- Optimistic Locking for Offline Sync ---
@@ -73,24 +238,74 @@ public class AssetService {
         assetToUpdate.setStatus(AssetStatus.valueOf(request.status()));
         // You would also update assignedTo user here by fetching from the UserRepository
 
-        Asset savedAsset = assetRepository.save(assetToUpdate);
-        return assetMapper.toDto(savedAsset);
+        String previousQrCodeId = assetToUpdate.getQrCodeId();
+        // Flush so the returned (and cached) DTO carries the incremented version
+        Asset savedAsset = assetRepository.saveAndFlush(assetToUpdate);
+        AssetDto dto = assetMapper.toDto(savedAsset);
+        eventPublisher.publishEvent(new AssetChangedEvent(currentUser.organizationId(), id, previousQrCodeId, dto));
+        return dto;
+    }
+
+    /**
+     * Opt-in alternative to {@link #updateAsset} for clients that may be editing a stale copy: changes made
+     * against an older version are merged field by field, and only real collisions are rejected (see {@link AssetMerger}).
+     */
+    public AssetDto mergeAsset(Long id, MergeAssetRequest request, AuthenticatedUser currentUser) {
+        Asset assetToUpdate = getAssetForUser(id, currentUser);
+        // Holds off schema changes until this commits, so the index rows written below match the committed schema
+        assetTypeRepository.findByIdForSchemaRead(assetToUpdate.getAssetType().getId());
+        Map<String, Object> previousAttributes = assetToUpdate.getCustomAttributes();
+        assetMerger.merge(assetToUpdate, request, currentUser);
+        // The merger only replaces the map when an attribute actually changed
+        boolean attributesChanged = assetToUpdate.getCustomAttributes() != previousAttributes;
+        AssetAttributeSchema schema = attributeSchemaCache.forType(assetToUpdate.getAssetType());
+        if (attributesChanged) {
+            schema.validate(assetToUpdate.getCustomAttributes());
+        }
+
+        String previousQrCodeId = assetToUpdate.getQrCodeId();
+        // Flush so the returned (and cached) DTO carries the incremented version
+        Asset savedAsset = assetRepository.saveAndFlush(assetToUpdate);
+        if (attributesChanged && schema.hasIndexedAttributes()) {
+            attributeIndex.update(currentUser.organizationId(), savedAsset.getAssetType().getId(), id, schema,
+                    savedAsset.getCustomAttributes());
+        }
+        AssetDto dto = assetMapper.toDto(savedAsset);
+        eventPublisher.publishEvent(new AssetChangedEvent(currentUser.organizationId(), id, previousQrCodeId, dto));
+        return dto;
     }
 
-    public void deleteAsset(Long id, User currentUser) {
+    public void deleteAsset(Long id, AuthenticatedUser currentUser) {
         Asset assetToDelete = getAssetForUser(id, currentUser);
         assetRepository.delete(assetToDelete);
+        attributeIndex.remove(id);
+        syncChangeLog.recordDeletion(currentUser.organizationId(), SyncEntityType.ASSET, id, assetToDelete.getVersion());
+        eventPublisher.publishEvent(new AssetChangedEvent(currentUser.organizationId(), id, assetToDelete.getQrCodeId(), null));
+    }
+
+    /**
+     * Helper method to fetch an asset type and verify the user has permission to access it.
+     */
+    private AssetType getAssetTypeForUser(Long assetTypeId, AuthenticatedUser user) {
+        AssetType assetType = assetTypeRepository.findById(assetTypeId)
+                .orElseThrow(() -> new ResourceNotFoundException("AssetType not found with id: " + assetTypeId));
+
+        // --- Multi-Tenancy Security Check ---
+        if (!assetType.getOrganization().getId().equals(user.organizationId())) {
+            throw new AccessDeniedException("You do not have permission to access this asset type.");
+        }
+        return assetType;
     }
 
     /**
      * Helper method to fetch an asset and verify the user has permission to access it.
      */
-    private Asset getAssetForUser(Long assetId, User user) {
+    private Asset getAssetForUser(Long assetId, AuthenticatedUser user) {
         Asset asset = assetRepository.findById(assetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + assetId));
 
         // --- Multi-Tenancy Security Check ---
-        if (!asset.getOrganization().getId().equals(user.getOrganization().getId())) {
+        if (!asset.getOrganization().getId().equals(user.organizationId())) {
             throw new AccessDeniedException("You do not have permission to access this asset.");
         }
         return asset;
@@ -0,0 +1,95 @@
+package com.safework.api.domain.asset.service;
+
+import com.safework.api.domain.asset.dto.AssetTypeDto;
+import com.safework.api.domain.asset.dto.UpdateAttributeSchemaRequest;
+import com.safework.api.domain.asset.mapper.AssetMapper;
+import com.safework.api.domain.asset.model.AssetType;
+import com.safework.api.domain.asset.repository.AssetTypeRepository;
+import com.safework.api.exception.ConflictException;
+import com.safework.api.exception.ResourceNotFoundException;
+import com.safework.api.security.AuthenticatedUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional // Ensures all database operations in a method are atomic
+public class AssetTypeService {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetTypeService.class);
+
+    private final AssetTypeRepository assetTypeRepository;
+    private final AssetMapper assetMapper;
+    private final AssetAttributeSchemaCache attributeSchemaCache;
+    private final AssetAttributeIndex attributeIndex;
+
+    public AssetTypeService(AssetTypeRepository assetTypeRepository, AssetMapper assetMapper,
+                            AssetAttributeSchemaCache attributeSchemaCache, AssetAttributeIndex attributeIndex) {
+        this.assetTypeRepository = assetTypeRepository;
+        this.assetMapper = assetMapper;
+        this.attributeSchemaCache = attributeSchemaCache;
+        this.attributeIndex = attributeIndex;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AssetTypeDto> findAllByOrganization(Long organizationId) {
+        return assetTypeRepository.findAllByOrganizationId(organizationId).stream()
+                .map(assetMapper::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public AssetTypeDto findAssetTypeById(Long id, AuthenticatedUser currentUser) {
+        return assetMapper.toDto(getAssetTypeForUser(id, currentUser));
+    }
+
+    /**
+     * Replaces an asset type's attribute schema and rebuilds the attribute index of its assets to match, in one
+     * transaction. The schema is compiled first, so a malformed one is rejected before anything changes.
+     * Existing assets are not re-validated: attributes that no longer fit the schema are simply left unindexed
+     * until the asset is next edited.
+     *
+     * The schema version is the type's @Version, so of two concurrent edits based on the same version only one
+     * commits. The update waits for in-flight asset merges, which hold a shared lock on the type, and merges that
+     * start later wait for the rebuild to commit.
+     */
+    public AssetTypeDto updateAttributeSchema(Long id, UpdateAttributeSchemaRequest request, AuthenticatedUser currentUser) {
+        AssetType assetType = getAssetTypeForUser(id, currentUser);
+        if (request.schemaVersion() != assetType.getSchemaVersion()) {
+            throw new ConflictException("Conflict: Attribute schema has been updated by another user. Please refresh and try again.");
+        }
+        AssetAttributeSchema.compile(request.attributeSchema());
+
+        assetType.setAttributeSchema(request.attributeSchema());
+        AssetType savedType;
+        try {
+            savedType = assetTypeRepository.saveAndFlush(assetType);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflictException("Conflict: Attribute schema has been updated by another user. Please refresh and try again.");
+        }
+
+        long assets = attributeIndex.rebuild(savedType, attributeSchemaCache.forType(savedType));
+        log.info("Rebuilt attribute index of asset type {} (schema version {}) over {} assets",
+                savedType.getId(), savedType.getSchemaVersion(), assets);
+        return assetMapper.toDto(savedType);
+    }
+
+    /**
+     * Helper method to fetch an asset type and verify the user has permission to access it.
+     */
+    private AssetType getAssetTypeForUser(Long assetTypeId, AuthenticatedUser user) {
+        AssetType assetType = assetTypeRepository.findById(assetTypeId)
+                .orElseThrow(() -> new ResourceNotFoundException("AssetType not found with id: " + assetTypeId));
+
+        // --- Multi-Tenancy Security Check ---
+        if (!assetType.getOrganization().getId().equals(user.organizationId())) {
+            throw new AccessDeniedException("You do not have permission to access this asset type.");
+        }
+        return assetType;
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/login")
 @RequiredArgsConstructor
@@ -17,14 +19,15 @@ public class AuthController {
 
     private final AuthService authService;
 
+    /**
+     * Authenticates on the login executor; the servlet thread is released until the result is ready.
+     * A saturated executor is reported as 503 with Retry-After by the global exception handler.
+     */
     @PostMapping
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            LoginResponse response = authService.authenticate(loginRequest);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            // Return 401 for authentication failures
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.authenticateAsync(loginRequest)
+                .thenApply(ResponseEntity::ok)
+                // Return 401 for authentication failures
+                .exceptionally(e -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
     }
 }
\ No newline at end of file
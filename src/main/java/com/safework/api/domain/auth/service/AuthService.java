@@ -3,22 +3,53 @@ package com.safework.api.domain.auth.service;
 import com.safework.api.domain.auth.dto.LoginRequest;
 import com.safework.api.domain.auth.dto.LoginResponse;
 import com.safework.api.domain.user.model.User;
-import com.safework.api.domain.user.repository.UserRepository;
+import com.safework.api.exception.ServiceUnavailableException;
 import com.safework.api.security.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
+import com.safework.api.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final PasswordRehashService passwordRehashService;
+    private final ExecutorService loginExecutor;
+    private final long retryAfterSeconds;
+
+    public AuthService(AuthenticationManager authenticationManager,
+                       JwtTokenProvider jwtTokenProvider,
+                       PasswordRehashService passwordRehashService,
+                       @Qualifier("loginExecutor") ExecutorService loginExecutor,
+                       @Value("${safework.security.login.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.authenticationManager = authenticationManager;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordRehashService = passwordRehashService;
+        this.loginExecutor = loginExecutor;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Queues a login on the bounded login executor so the request thread is released while BCrypt runs.
+     * @throws ServiceUnavailableException if the executor is saturated and the login has to be shed
+     */
+    public CompletableFuture<LoginResponse> authenticateAsync(LoginRequest loginRequest) {
+        try {
+            return CompletableFuture.supplyAsync(() -> authenticate(loginRequest), loginExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Too many concurrent logins. Please retry shortly.", retryAfterSeconds);
+        }
+    }
 
     public LoginResponse authenticate(LoginRequest loginRequest) {
         try {
@@ -30,12 +61,14 @@ public class AuthService {
                     )
             );
 
-            // Generate JWT token
-            String token = jwtTokenProvider.getToken(loginRequest.email());
+            // Reuse the user loaded during authentication instead of querying it again
+            User user = ((UserPrincipal) authentication.getPrincipal()).user();
 
-            // Get user details
-            User user = userRepository.findByEmail(loginRequest.email())
-                    .orElseThrow(() -> new RuntimeException("User not found after authentication"));
+            // Upgrade a legacy or low-cost hash in the background now that the raw password is known
+            passwordRehashService.rehashIfNeeded(user, loginRequest.password());
+
+            // Generate JWT token
+            String token = jwtTokenProvider.getToken(user);
 
             // Build and return the response
             return new LoginResponse(
@@ -51,4 +84,4 @@ public class AuthService {
             throw new RuntimeException("Invalid email or password", e);
         }
     }
-}
\ No newline at end of file
+}
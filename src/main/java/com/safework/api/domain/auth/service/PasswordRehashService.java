@@ -0,0 +1,56 @@
+package com.safework.api.domain.auth.service;
+
+import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Upgrades password hashes that were created with an older algorithm or a lower cost.
+ * The raw password is only available during login, so the upgrade is queued right after a successful
+ * verification and runs in the background, off the login's latency path.
+ */
+@Service
+public class PasswordRehashService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ExecutorService rehashExecutor;
+
+    public PasswordRehashService(PasswordEncoder passwordEncoder,
+                                 UserRepository userRepository,
+                                 @Qualifier("passwordRehashExecutor") ExecutorService rehashExecutor) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.rehashExecutor = rehashExecutor;
+    }
+
+    /**
+     * Queues a rehash if the user's stored hash is weaker than the current encoder settings.
+     * @param user the user that has just been authenticated
+     * @param rawPassword the password that was verified against the user's current hash
+     */
+    public void rehashIfNeeded(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if (!passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+        Long userId = user.getId();
+        rehashExecutor.execute(() -> {
+            try {
+                String newHash = passwordEncoder.encode(rawPassword);
+                userRepository.updatePasswordHash(userId, currentHash, newHash);
+            } catch (RuntimeException e) {
+                // The old hash is still valid, so the upgrade will be retried on the next login
+                log.warn("Password rehash failed for user {}", userId, e);
+            }
+        });
+    }
+}
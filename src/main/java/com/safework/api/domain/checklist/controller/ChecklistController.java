@@ -0,0 +1,83 @@
+package com.safework.api.domain.checklist.controller;
+
+import com.safework.api.domain.checklist.dto.ChecklistDto;
+import com.safework.api.domain.checklist.dto.CreateChecklistRequest;
+import com.safework.api.domain.checklist.dto.UpdateChecklistRequest;
+import com.safework.api.domain.checklist.service.ChecklistService;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/checklists") // All endpoints are versioned
+public class ChecklistController {
+
+    private final ChecklistService checklistService;
+
+    /**
+     * Publishes a new checklist template. Requires ADMIN role.
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ChecklistDto> createChecklist(@Valid @RequestBody CreateChecklistRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        ChecklistDto newChecklist = checklistService.createChecklist(request, currentUser);
+        return new ResponseEntity<>(newChecklist, HttpStatus.CREATED);
+    }
+
+    /**
+     * Retrieves a paginated list of the current user's organization's checklists.
+     * Honors If-None-Match: answers 304 if nothing in the organization changed since the tagged response.
+     */
+    @GetMapping
+    public ResponseEntity<Page<ChecklistDto>> getChecklistsByOrganization(@AuthenticationPrincipal AuthenticatedUser currentUser, Pageable pageable,
+                                                                          WebRequest webRequest) {
+        Optional<String> eTag = checklistService.findOrganizationChecklistsETag(currentUser.organizationId());
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return notModified(eTag.get());
+        }
+        Page<ChecklistDto> checklists = checklistService.findAllByOrganization(currentUser.organizationId(), pageable);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(checklists);
+    }
+
+    /**
+     * Retrieves a single checklist by its unique ID.
+     * Honors If-None-Match: answers 304 after reading only the checklist's version if the client's copy is current.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ChecklistDto> getChecklistById(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser currentUser,
+                                                         WebRequest webRequest) {
+        Optional<String> currentETag = checklistService.findChecklistETag(id, currentUser);
+        if (currentETag.isPresent() && webRequest.checkNotModified(currentETag.get())) {
+            return notModified(currentETag.get());
+        }
+        ChecklistDto checklist = checklistService.findChecklistById(id, currentUser);
+        return ResponseEntity.ok().eTag(ChecklistService.checklistETag(checklist)).body(checklist);
+    }
+
+    /**
+     * Updates a checklist. Requires ADMIN role and the version the edit was based on.
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ChecklistDto> updateChecklist(@PathVariable Long id, @Valid @RequestBody UpdateChecklistRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        ChecklistDto updatedChecklist = checklistService.updateChecklist(id, request, currentUser);
+        return ResponseEntity.ok(updatedChecklist);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+}
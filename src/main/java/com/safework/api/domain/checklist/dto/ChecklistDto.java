@@ -0,0 +1,15 @@
+package com.safework.api.domain.checklist.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record ChecklistDto(
+        Long id,
+        Long organizationId,
+        String name,
+        String description,
+        String status,
+        Map<String, Object> templateData,
+        int version,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,16 @@
+package com.safework.api.domain.checklist.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+public record CreateChecklistRequest(
+        @NotBlank(message = "Checklist name is required")
+        String name,
+
+        String description,
+
+        @NotNull(message = "Template data is required")
+        Map<String, Object> templateData
+) {}
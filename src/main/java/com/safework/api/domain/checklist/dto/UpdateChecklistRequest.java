@@ -0,0 +1,25 @@
+package com.safework.api.domain.checklist.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+public record UpdateChecklistRequest(
+        @NotBlank(message = "Checklist name is required")
+        String name,
+
+        String description,
+
+        // ACTIVE or ARCHIVED
+        @NotBlank(message = "Status is required")
+        String status,
+
+        @NotNull(message = "Template data is required")
+        Map<String, Object> templateData,
+
+        @NotNull(message = "Version is required for updates")
+        @Min(value = 0, message = "Version cannot be negative")
+        Integer version
+) {}
@@ -0,0 +1,22 @@
+package com.safework.api.domain.checklist.mapper;
+
+import com.safework.api.domain.checklist.dto.ChecklistDto;
+import com.safework.api.domain.checklist.model.Checklist;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChecklistMapper {
+
+    public ChecklistDto toDto(Checklist checklist) {
+        return new ChecklistDto(
+                checklist.getId(),
+                checklist.getOrganization().getId(),
+                checklist.getName(),
+                checklist.getDescription(),
+                checklist.getStatus().name(),
+                checklist.getTemplateData(),
+                checklist.getVersion(),
+                checklist.getUpdatedAt()
+        );
+    }
+}
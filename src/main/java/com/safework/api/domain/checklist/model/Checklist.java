@@ -4,7 +4,10 @@ import com.safework.api.domain.inspection.model.Inspection;
 import com.safework.api.domain.organization.model.Organization;
 import com.safework.api.domain.util.JsonValidator;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -61,18 +64,34 @@ public class Checklist {
     @OneToMany(mappedBy = "checklist", fetch = FetchType.LAZY)
     private List<Inspection> inspections;
     
+    // --- Validation memo (not persisted) ---
+    // The read-only snapshot the setter validated and stored; while templateData is still this very map it cannot have changed.
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Map<String, Object> validatedTemplateData;
+
     // --- Lifecycle Hooks ---
     
     @PrePersist
     @PreUpdate
     private void validateJsonData() {
-        JsonValidator.validateJson(this.templateData, "templateData");
+        // Skipped only for the setter's snapshot; a map loaded by Hibernate is mutable and may have been changed in place
+        if (this.templateData != this.validatedTemplateData) {
+            JsonValidator.validateJson(this.templateData, "templateData");
+        }
     }
     
     // --- Setters with validation ---
     
+    /**
+     * Validates the data and stores a read-only snapshot of it, so it cannot change after validation.
+     * To change it, set a modified {@link JsonValidator#deepCopy}.
+     */
     public void setTemplateData(Map<String, Object> templateData) {
         JsonValidator.validateJson(templateData, "templateData");
-        this.templateData = templateData;
+        this.templateData = JsonValidator.immutableCopy(templateData);
+        this.validatedTemplateData = this.templateData;
     }
 }
\ No newline at end of file
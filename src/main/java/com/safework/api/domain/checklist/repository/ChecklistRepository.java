@@ -0,0 +1,56 @@
+package com.safework.api.domain.checklist.repository;
+
+import com.safework.api.domain.checklist.model.Checklist;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing Checklist entities.
+ * Extends JpaRepository to provide standard CRUD operations.
+ */
+@Repository
+public interface ChecklistRepository extends JpaRepository<Checklist, Long> {
+
+    /**
+     * Finds all checklists belonging to a specific organization.
+     *
+     * @param organizationId The ID of the organization.
+     * @return A list of checklists.
+     */
+    List<Checklist> findAllByOrganizationId(Long organizationId);
+
+    /**
+     * Finds all checklists belonging to a specific organization, with pagination support.
+     *
+     * @param organizationId The ID of the organization.
+     * @param pageable       The pagination information (page number, size, and sorting).
+     * @return A Page of checklists for the given organization.
+     */
+    Page<Checklist> findAllByOrganizationId(Long organizationId, Pageable pageable);
+
+    /**
+     * Loads the given checklists of one organization; ids from other organizations are skipped.
+     *
+     * @param organizationId The ID of the organization.
+     * @param ids            The checklist ids to load.
+     * @return The checklists found, in no particular order.
+     */
+    List<Checklist> findAllByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Reads only a checklist's version, to look up its cached template without loading the template JSON.
+     *
+     * @param id             The ID of the checklist.
+     * @param organizationId The ID of the requesting user's organization.
+     * @return The version, or empty if the organization has no such checklist.
+     */
+    @Query("select c.version from Checklist c where c.id = :id and c.organization.id = :organizationId")
+    Optional<Integer> findVersionByIdAndOrganizationId(Long id, Long organizationId);
+}
@@ -0,0 +1,144 @@
+package com.safework.api.domain.checklist.service;
+
+import com.safework.api.domain.checklist.dto.ChecklistDto;
+import com.safework.api.domain.checklist.dto.CreateChecklistRequest;
+import com.safework.api.domain.checklist.dto.UpdateChecklistRequest;
+import com.safework.api.domain.checklist.mapper.ChecklistMapper;
+import com.safework.api.domain.checklist.model.Checklist;
+import com.safework.api.domain.checklist.model.ChecklistStatus;
+import com.safework.api.domain.checklist.repository.ChecklistRepository;
+import com.safework.api.domain.organization.repository.OrganizationRepository;
+import com.safework.api.domain.sync.model.SyncEntityType;
+import com.safework.api.domain.sync.service.SyncChangeLog;
+import com.safework.api.domain.util.ETags;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.exception.ConflictException;
+import com.safework.api.exception.ResourceNotFoundException;
+import com.safework.api.security.AuthenticatedUser;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+@Service
+@Transactional // Ensures all database operations in a method are atomic
+public class ChecklistService {
+
+    private static final String ETAG_RESOURCE = "checklist";
+    private static final String ETAG_COLLECTION = "checklists";
+
+    private final ChecklistRepository checklistRepository;
+    private final OrganizationRepository organizationRepository;
+    private final ChecklistMapper checklistMapper;
+    private final SyncChangeLog syncChangeLog;
+
+    public ChecklistService(ChecklistRepository checklistRepository, OrganizationRepository organizationRepository,
+                            ChecklistMapper checklistMapper, SyncChangeLog syncChangeLog) {
+        this.checklistRepository = checklistRepository;
+        this.organizationRepository = organizationRepository;
+        this.checklistMapper = checklistMapper;
+        this.syncChangeLog = syncChangeLog;
+    }
+
+    /**
+     * Publishes a new, active checklist. The template is compiled first, so a malformed one is rejected here
+     * rather than when an inspector submits against it.
+     */
+    public ChecklistDto createChecklist(CreateChecklistRequest request, AuthenticatedUser currentUser) {
+        CompiledChecklist.compile(request.templateData());
+
+        Checklist checklist = new Checklist();
+        checklist.setOrganization(organizationRepository.getReferenceById(currentUser.organizationId()));
+        checklist.setName(request.name());
+        checklist.setDescription(request.description());
+        checklist.setStatus(ChecklistStatus.ACTIVE);
+        checklist.setTemplateData(request.templateData());
+
+        Checklist savedChecklist = checklistRepository.save(checklist);
+        syncChangeLog.record(currentUser.organizationId(), SyncEntityType.CHECKLIST, savedChecklist.getId());
+        return checklistMapper.toDto(savedChecklist);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ChecklistDto> findAllByOrganization(Long organizationId, Pageable pageable) {
+        return checklistRepository.findAllByOrganizationId(organizationId, pageable).map(checklistMapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public ChecklistDto findChecklistById(Long id, AuthenticatedUser currentUser) {
+        return checklistMapper.toDto(getChecklistForUser(id, currentUser));
+    }
+
+    /**
+     * ETag of a checklist's current version, read without loading the template.
+     * Empty if the checklist does not exist or is not visible to the user; the full lookup then reports why.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findChecklistETag(Long id, AuthenticatedUser currentUser) {
+        return checklistRepository.findVersionByIdAndOrganizationId(id, currentUser.organizationId())
+                .map(version -> ETags.forVersion(ETAG_RESOURCE, id, version));
+    }
+
+    public static String checklistETag(ChecklistDto checklist) {
+        return ETags.forVersion(ETAG_RESOURCE, checklist.id(), checklist.version());
+    }
+
+    /**
+     * ETag of an organization's checklist listing, read from the sync feed head like the asset listings'.
+     * Empty while the head has not settled.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findOrganizationChecklistsETag(Long organizationId) {
+        OptionalLong head = syncChangeLog.settledHead(organizationId);
+        return head.isPresent() ? Optional.of(ETags.forFeedHead(ETAG_COLLECTION, head.getAsLong())) : Optional.empty();
+    }
+
+    /**
+     * Replaces a checklist's content. The version bump also retires its cached template (see ChecklistTemplateCache).
+     */
+    public ChecklistDto updateChecklist(Long id, UpdateChecklistRequest request, AuthenticatedUser currentUser) {
+        Checklist checklistToUpdate = getChecklistForUser(id, currentUser);
+
+        // --- Optimistic Locking for Offline Sync ---
+        if (request.version() != checklistToUpdate.getVersion()) {
+            throw new ConflictException("Conflict: Checklist has been updated by another user. Please refresh and try again.");
+        }
+        CompiledChecklist.compile(request.templateData());
+
+        checklistToUpdate.setName(request.name());
+        checklistToUpdate.setDescription(request.description());
+        checklistToUpdate.setStatus(parseStatus(request.status()));
+        checklistToUpdate.setTemplateData(request.templateData());
+
+        // Flush so the returned DTO carries the incremented version
+        Checklist savedChecklist = checklistRepository.saveAndFlush(checklistToUpdate);
+        syncChangeLog.record(currentUser.organizationId(), SyncEntityType.CHECKLIST, id);
+        return checklistMapper.toDto(savedChecklist);
+    }
+
+    /**
+     * Helper method to fetch a checklist and verify the user has permission to access it.
+     */
+    private Checklist getChecklistForUser(Long checklistId, AuthenticatedUser user) {
+        Checklist checklist = checklistRepository.findById(checklistId)
+                .orElseThrow(() -> new ResourceNotFoundException("Checklist not found with id: " + checklistId));
+
+        // --- Multi-Tenancy Security Check ---
+        if (!checklist.getOrganization().getId().equals(user.organizationId())) {
+            throw new AccessDeniedException("You do not have permission to access this checklist.");
+        }
+        return checklist;
+    }
+
+    private static ChecklistStatus parseStatus(String status) {
+        try {
+            return ChecklistStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid checklist status: " + status);
+        }
+    }
+}
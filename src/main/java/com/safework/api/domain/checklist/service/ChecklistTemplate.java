@@ -0,0 +1,70 @@
+package com.safework.api.domain.checklist.service;
+
+import com.safework.api.domain.checklist.model.Checklist;
+import com.safework.api.domain.checklist.model.ChecklistStatus;
+import com.safework.api.domain.util.JsonValidator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A checklist's template as of one version, detached from the entity and deeply immutable,
+ * so a single cached instance can be shared by every request that starts an inspection.
+ *
+ * @param templateData the parsed template; every nested map and list is unmodifiable
+ * @param compiled the template compiled for validating reports against it
+ * @param estimatedBytes rough heap footprint of templateData and its compiled form, used to bound the cache by memory
+ */
+public record ChecklistTemplate(
+        Long checklistId,
+        Long organizationId,
+        int version,
+        String name,
+        ChecklistStatus status,
+        Map<String, Object> templateData,
+        CompiledChecklist compiled,
+        long estimatedBytes
+) {
+
+    // Approximate per-object costs on a 64-bit JVM with compressed oops
+    private static final long OBJECT_BYTES = 16;
+    private static final long ENTRY_BYTES = 40;
+    private static final long REFERENCE_BYTES = 8;
+    private static final long COMPILED_ITEM_BYTES = 96;
+
+    public static ChecklistTemplate of(Checklist checklist) {
+        Map<String, Object> templateData = JsonValidator.immutableCopy(checklist.getTemplateData());
+        CompiledChecklist compiled = CompiledChecklist.compile(templateData);
+        return new ChecklistTemplate(
+                checklist.getId(),
+                checklist.getOrganization().getId(),
+                checklist.getVersion(),
+                checklist.getName(),
+                checklist.getStatus(),
+                templateData,
+                compiled,
+                estimateBytes(templateData) + compiled.itemCount() * COMPILED_ITEM_BYTES
+        );
+    }
+
+    private static long estimateBytes(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            long bytes = OBJECT_BYTES * 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += ENTRY_BYTES + estimateBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof List<?> list) {
+            long bytes = OBJECT_BYTES * 2;
+            for (Object item : list) {
+                bytes += REFERENCE_BYTES + estimateBytes(item);
+            }
+            return bytes;
+        }
+        if (value instanceof String string) {
+            return OBJECT_BYTES * 2 + string.length();
+        }
+        return value == null ? 0 : OBJECT_BYTES;
+    }
+}
@@ -0,0 +1,66 @@
+package com.safework.api.domain.checklist.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safework.api.domain.checklist.repository.ChecklistRepository;
+import com.safework.api.domain.util.CacheFootprint;
+import com.safework.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache of parsed checklist templates, keyed by (organization, checklist, version) so tenants never share entries.
+ *
+ * A lookup first reads the checklist's current version (one indexed column, no JSON). Because the version is part
+ * of the key, any committed edit bumps it and the next lookup misses and reloads; there is no invalidation to get
+ * wrong. Entries for superseded versions are never hit again and age out through the access TTL or the size bound.
+ *
+ * The cache is bounded by the estimated heap footprint of its templates rather than by entry count, since
+ * templates vary widely in size. Hits and misses are exported as the "checklist-templates" cache in Micrometer,
+ * and the estimated footprint as {@value #FOOTPRINT_GAUGE}.
+ */
+@Component
+public class ChecklistTemplateCache {
+
+    private static final String FOOTPRINT_GAUGE = "safework.checklists.template-cache.bytes";
+
+    private record TemplateKey(Long organizationId, Long checklistId, int version) {}
+
+    private final Cache<TemplateKey, ChecklistTemplate> cache;
+    private final ChecklistRepository checklistRepository;
+
+    public ChecklistTemplateCache(ChecklistRepository checklistRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${safework.checklists.template-cache.max-size:64MB}") DataSize maxSize,
+                                  @Value("${safework.checklists.template-cache.ttl:1h}") Duration ttl) {
+        this.checklistRepository = checklistRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((TemplateKey key, ChecklistTemplate template) -> (int) Math.min(Integer.MAX_VALUE, template.estimatedBytes()))
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "checklist-templates");
+        CacheFootprint.monitor(meterRegistry, cache, FOOTPRINT_GAUGE, "Estimated heap used by cached checklist templates");
+    }
+
+    /**
+     * Returns the current template of a checklist in an organization, loading and parsing it on a miss.
+     * If an edit commits between the version read and the load, the newer template is cached under the older
+     * version; that entry is only served until the newer version is read, so it is never staler than asked for.
+     *
+     * @return the template, or empty if the organization has no such checklist
+     */
+    public Optional<ChecklistTemplate> get(Long organizationId, Long checklistId) {
+        return checklistRepository.findVersionByIdAndOrganizationId(checklistId, organizationId)
+                .map(version -> cache.get(new TemplateKey(organizationId, checklistId, version),
+                        key -> ChecklistTemplate.of(checklistRepository.findById(checklistId)
+                                .orElseThrow(() -> new ResourceNotFoundException("Checklist not found with id: " + checklistId)))));
+    }
+}
@@ -0,0 +1,158 @@
+package com.safework.api.domain.checklist.service;
+
+import com.safework.api.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A checklist template compiled into a flat, indexed array of items, so a submitted report is checked in one
+ * linear pass over its responses instead of walking the template's sections for every answer.
+ *
+ * Templates look like {"sections": [{"name": ..., "items": [{"id": "GS-001", "question": ..., "type": "boolean"}]}]}.
+ * Item types are boolean, rating (an integer from 1 to "scale", default 5), number, text and choice (one of
+ * "options"); an item with "required": true must be answered. Reports answer items by id under "responses",
+ * e.g. {"responses": {"GS-001": true}}.
+ */
+public final class CompiledChecklist {
+
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    enum ItemType {
+        BOOLEAN, RATING, NUMBER, TEXT, CHOICE
+    }
+
+    record Item(String id, ItemType type, boolean required, int scale, Set<String> options) {}
+
+    private final Item[] items;
+    private final Map<String, Integer> indexById;
+    private final int[] requiredIndexes;
+
+    private CompiledChecklist(Item[] items, Map<String, Integer> indexById, int[] requiredIndexes) {
+        this.items = items;
+        this.indexById = indexById;
+        this.requiredIndexes = requiredIndexes;
+    }
+
+    /**
+     * @throws BadRequestException if the template is not a well-formed checklist
+     */
+    public static CompiledChecklist compile(Map<String, Object> templateData) {
+        if (templateData == null || !(templateData.get("sections") instanceof List<?> sections)) {
+            throw new BadRequestException("Checklist template must contain a \"sections\" list");
+        }
+        List<Item> items = new ArrayList<>();
+        Map<String, Integer> indexById = new HashMap<>();
+        for (Object section : sections) {
+            if (!(section instanceof Map<?, ?> sectionMap) || !(sectionMap.get("items") instanceof List<?> sectionItems)) {
+                throw new BadRequestException("Every checklist section must contain an \"items\" list");
+            }
+            for (Object item : sectionItems) {
+                Item compiled = compileItem(item);
+                if (indexById.putIfAbsent(compiled.id(), items.size()) != null) {
+                    throw new BadRequestException("Duplicate checklist item id: " + compiled.id());
+                }
+                items.add(compiled);
+            }
+        }
+        int[] requiredIndexes = new int[(int) items.stream().filter(Item::required).count()];
+        for (int i = 0, r = 0; i < items.size(); i++) {
+            if (items.get(i).required()) {
+                requiredIndexes[r++] = i;
+            }
+        }
+        return new CompiledChecklist(items.toArray(Item[]::new), Map.copyOf(indexById), requiredIndexes);
+    }
+
+    private static Item compileItem(Object item) {
+        if (!(item instanceof Map<?, ?> itemMap) || !(itemMap.get("id") instanceof String id) || id.isBlank()) {
+            throw new BadRequestException("Every checklist item must have a non-blank \"id\"");
+        }
+        ItemType type;
+        try {
+            type = ItemType.valueOf(String.valueOf(itemMap.get("type")).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Checklist item " + id + " has an unknown type: " + itemMap.get("type"));
+        }
+        boolean required = Boolean.TRUE.equals(itemMap.get("required"));
+        int scale = 0;
+        Set<String> options = Set.of();
+        if (type == ItemType.RATING) {
+            Object scaleValue = itemMap.containsKey("scale") ? itemMap.get("scale") : 5;
+            if (!(scaleValue instanceof Integer s) || s < 1) {
+                throw new BadRequestException("Checklist item " + id + " must have a positive integer \"scale\"");
+            }
+            scale = s;
+        } else if (type == ItemType.CHOICE) {
+            if (!(itemMap.get("options") instanceof List<?> optionList) || optionList.isEmpty()) {
+                throw new BadRequestException("Checklist item " + id + " must have a non-empty \"options\" list");
+            }
+            Set<String> optionSet = new HashSet<>();
+            optionList.forEach(option -> optionSet.add(String.valueOf(option)));
+            options = Set.copyOf(optionSet);
+        }
+        return new Item(id, type, required, scale, options);
+    }
+
+    public int itemCount() {
+        return items.length;
+    }
+
+    /**
+     * Checks a report's responses against the template: every answered item must exist and have a value of
+     * its type, and every required item must be answered. Other report fields (notes, photos, ...) are free-form.
+     *
+     * @throws BadRequestException listing the problems found
+     */
+    public void validate(Map<String, Object> reportData) {
+        Object responsesValue = reportData.get("responses");
+        if (responsesValue != null && !(responsesValue instanceof Map<?, ?>)) {
+            throw new BadRequestException("Report \"responses\" must be an object keyed by checklist item id");
+        }
+        Map<?, ?> responses = responsesValue == null ? Map.of() : (Map<?, ?>) responsesValue;
+
+        List<String> errors = new ArrayList<>();
+        boolean[] answered = new boolean[items.length];
+        for (Map.Entry<?, ?> response : responses.entrySet()) {
+            Integer index = indexById.get(String.valueOf(response.getKey()));
+            if (index == null) {
+                errors.add("unknown item " + response.getKey());
+                continue;
+            }
+            Object value = response.getValue();
+            if (value == null) {
+                continue;
+            }
+            Item item = items[index];
+            if (!accepts(item, value)) {
+                errors.add("invalid " + item.type().name().toLowerCase() + " answer for item " + item.id());
+            }
+            answered[index] = true;
+        }
+        for (int index : requiredIndexes) {
+            if (!answered[index]) {
+                errors.add("missing answer for required item " + items[index].id());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            List<String> reported = errors.size() > MAX_REPORTED_ERRORS ? errors.subList(0, MAX_REPORTED_ERRORS) : errors;
+            throw new BadRequestException("Report does not match the checklist: " + String.join("; ", reported)
+                    + (errors.size() > reported.size() ? " (and " + (errors.size() - reported.size()) + " more)" : ""));
+        }
+    }
+
+    private static boolean accepts(Item item, Object value) {
+        return switch (item.type()) {
+            case BOOLEAN -> value instanceof Boolean;
+            case RATING -> value instanceof Integer rating && rating >= 1 && rating <= item.scale();
+            case NUMBER -> value instanceof Number;
+            case TEXT -> value instanceof String;
+            case CHOICE -> value instanceof String choice && item.options().contains(choice);
+        };
+    }
+}
@@ -0,0 +1,303 @@
+package com.safework.api.domain.idempotency.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safework.api.domain.idempotency.service.IdempotencyStore;
+import com.safework.api.domain.idempotency.service.StoredResponse;
+import com.safework.api.exception.ErrorResponse;
+import com.safework.api.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Makes POST, PUT, PATCH and DELETE requests that carry an Idempotency-Key header safe to retry.
+ *
+ * The first request with a key executes normally and its response is stored; a retry with the same key (and the
+ * same method, URI and body) gets the stored response, marked with "Idempotent-Replayed: true", without reaching
+ * the controller. A key reused for a different request gets 422, and a retry while the first attempt is still
+ * executing gets 409. Server errors are not stored, so those requests can be retried for real.
+ *
+ * Keys are scoped to the authenticated user. The filter is registered as a plain servlet filter with the lowest
+ * precedence, so it runs after the Spring Security chain has authenticated the request; requests without a user
+ * are passed through untouched. Bodies are buffered to fingerprint them, so keyed requests are limited in size.
+ * Streamed bodies are passed through untouched as well: multipart uploads, and the NDJSON and CSV bulk asset
+ * import, which may be far larger than the limit and reports a retried row as a duplicate rather than creating it
+ * twice.
+ */
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String REQUEST_COUNTER = "safework.idempotency.requests";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final List<String> STREAMED_CONTENT_TYPES = List.of(
+            MediaType.MULTIPART_FORM_DATA_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv");
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final int maxRequestBytes;
+
+    private final Counter executedRequests;
+    private final Counter replayedRequests;
+    private final Counter rejectedRequests;
+
+    public IdempotencyKeyFilter(IdempotencyStore idempotencyStore,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${safework.idempotency.max-request-size:1MB}") DataSize maxRequestSize) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.maxRequestBytes = Math.toIntExact(maxRequestSize.toBytes());
+        this.executedRequests = requestCounter(meterRegistry, "executed");
+        this.replayedRequests = requestCounter(meterRegistry, "replayed");
+        this.rejectedRequests = requestCounter(meterRegistry, "rejected");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(REQUEST_COUNTER)
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || isStreamed(request.getContentType());
+    }
+
+    /**
+     * Multipart bodies are parsed by the container from the original stream, and bulk imports are read row by row
+     * from it, so neither can be buffered; uploads and imports are not covered.
+     */
+    private static boolean isStreamed(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return STREAMED_CONTENT_TYPES.stream().anyMatch(type::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser currentUser)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (clientKey.isBlank() || clientKey.length() > MAX_KEY_LENGTH) {
+            rejectedRequests.increment();
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        byte[] body = readBody(request);
+        if (body == null) {
+            rejectedRequests.increment();
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Requests with an " + IDEMPOTENCY_KEY_HEADER + " may carry at most " + maxRequestBytes + " bytes");
+            return;
+        }
+
+        String key = currentUser.id() + ":" + clientKey;
+        String fingerprint = fingerprint(request, body);
+        IdempotencyStore.Claim claim = idempotencyStore.claim(key, fingerprint);
+        switch (claim.outcome()) {
+            case REPLAY -> {
+                replayedRequests.increment();
+                replay(claim.response(), response);
+                return;
+            }
+            case IN_FLIGHT -> {
+                rejectedRequests.increment();
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+                return;
+            }
+            case MISMATCH -> {
+                rejectedRequests.increment();
+                writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "This " + IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+                return;
+            }
+            case PROCEED -> executedRequests.increment();
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new BufferedBodyRequest(request, body), cachingResponse);
+            int status = cachingResponse.getStatus();
+            if (status < 500) {
+                idempotencyStore.complete(key, fingerprint, new StoredResponse(status, cachingResponse.getContentType(),
+                        cachingResponse.getHeader(HttpHeaders.LOCATION), cachingResponse.getHeader(HttpHeaders.ETAG),
+                        cachingResponse.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.abandon(key);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * @return the whole body, or null if it is larger than allowed
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        return body.length > maxRequestBytes ? null : body;
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.etag());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Hands the buffered body to the rest of the chain, since the original stream has been consumed.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            InputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return source.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return source.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Buffered request bodies are read synchronously");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
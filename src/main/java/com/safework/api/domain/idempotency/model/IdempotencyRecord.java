@@ -0,0 +1,44 @@
+package com.safework.api.domain.idempotency.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * The stored outcome of a request made with an Idempotency-Key, for replaying to retries of that request.
+ * Most records only live in the in-memory IdempotencyStore; this table holds the ones it spills (evicted before
+ * they expired, or too large to keep in memory). Expired rows are pruned by IdempotencyStore.
+ */
+@Data
+@Entity
+@Table(name = "idempotency_records", indexes = {
+        @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at") // Pruning
+})
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 300)
+    private String idempotencyKey; // The user id and the client's key, so keys never collide across users
+
+    @Column(name = "request_fingerprint", nullable = false, length = 64)
+    private String requestFingerprint; // SHA-256 of method, URI and body, to detect a key reused for another request
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    private String location;
+
+    @Column(name = "etag")
+    private String etag;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
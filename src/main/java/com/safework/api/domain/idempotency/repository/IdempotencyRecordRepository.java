@@ -0,0 +1,29 @@
+package com.safework.api.domain.idempotency.repository;
+
+import com.safework.api.domain.idempotency.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for managing IdempotencyRecord entities.
+ * Extends JpaRepository to provide standard CRUD operations.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Prunes records that can no longer be replayed.
+     *
+     * @param now The current time.
+     * @return the number of records removed
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,245 @@
+package com.safework.api.domain.idempotency.service;
+
+import com.safework.api.domain.idempotency.model.IdempotencyRecord;
+import com.safework.api.domain.idempotency.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Remembers the outcome of requests made with an Idempotency-Key for a fixed time, so retries can be answered
+ * with the stored response instead of being executed again.
+ *
+ * Entries live in memory, in lock stripes selected by key hash so concurrent requests rarely contend. Each stripe
+ * is a small LRU map with a fixed share of the entry limit, and responses above a size limit are never held in
+ * memory, so the store's footprint is bounded by entries times that limit. Entries that are evicted before they
+ * expire, and responses too large for memory, spill to the idempotency_records table, which is consulted on a
+ * memory miss and pruned of expired rows on a schedule.
+ *
+ * Memory is per instance. A retry that reaches another instance is only recognized once its entry has spilled,
+ * so deployments with several instances should route a client's requests to one instance where possible.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private static final String ENTRIES_GAUGE = "safework.idempotency.entries";
+    private static final int STRIPES = 64; // Power of two, so a stripe is picked with a mask
+
+    public enum Outcome {
+        /** First sight of the key: execute the request, then {@link #complete} or {@link #abandon} it. */
+        PROCEED,
+        /** The request already completed: send the stored response. */
+        REPLAY,
+        /** The same key is being executed by another request right now. */
+        IN_FLIGHT,
+        /** The key was used for a different request. */
+        MISMATCH
+    }
+
+    public record Claim(Outcome outcome, StoredResponse response) {}
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+    private final int maxCachedBodyBytes;
+    private final int stripeCapacity;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${safework.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${safework.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${safework.idempotency.max-cached-response:8KB}") DataSize maxCachedResponse) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = ttl;
+        this.maxCachedBodyBytes = Math.toIntExact(maxCachedResponse.toBytes());
+        this.stripeCapacity = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        Gauge.builder(ENTRIES_GAUGE, this, IdempotencyStore::size)
+                .description("Idempotency keys held in memory, including requests still executing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims a key for a request, or reports why the request must not be executed.
+     *
+     * @param key         the user-scoped idempotency key
+     * @param fingerprint identifies the request, so a key reused for a different request is caught
+     */
+    public Claim claim(String key, String fingerprint) {
+        Stripe stripe = stripeFor(key);
+        long now = System.currentTimeMillis();
+        List<Entry> spills;
+        stripe.lock.lock();
+        try {
+            Entry existing = stripe.entries.get(key);
+            if (existing != null && existing.expiresAtMillis > now) {
+                return claimOf(existing.fingerprint, existing.response, fingerprint);
+            }
+            stripe.entries.put(key, new Entry(key, fingerprint, null, now + ttl.toMillis()));
+            spills = evict(stripe, now);
+        } finally {
+            stripe.lock.unlock();
+        }
+        spill(spills);
+
+        // Not in memory: it may have completed before being spilled, here or on another instance
+        Optional<IdempotencyRecord> spilled = idempotencyRecordRepository.findById(key)
+                .filter(record -> record.getExpiresAt().isAfter(LocalDateTime.now()));
+        if (spilled.isPresent()) {
+            abandon(key);
+            IdempotencyRecord record = spilled.get();
+            return claimOf(record.getRequestFingerprint(), new StoredResponse(record.getStatus(), record.getContentType(),
+                    record.getLocation(), record.getEtag(), record.getBody()), fingerprint);
+        }
+        return new Claim(Outcome.PROCEED, null);
+    }
+
+    /**
+     * Stores the response of a claimed request, for replay until the key expires.
+     */
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        long now = System.currentTimeMillis();
+        Entry entry = new Entry(key, fingerprint, response, now + ttl.toMillis());
+        if (response.body().length > maxCachedBodyBytes) {
+            spill(List.of(entry));
+            abandon(key);
+            return;
+        }
+
+        Stripe stripe = stripeFor(key);
+        List<Entry> spills;
+        stripe.lock.lock();
+        try {
+            stripe.entries.put(key, entry);
+            spills = evict(stripe, now);
+        } finally {
+            stripe.lock.unlock();
+        }
+        spill(spills);
+    }
+
+    /**
+     * Releases a claimed key without storing anything, so the request can be retried (after a server error).
+     */
+    public void abandon(String key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry != null && entry.response == null) {
+                stripe.entries.remove(key);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${safework.idempotency.cleanup-interval:PT1H}",
+            fixedDelayString = "${safework.idempotency.cleanup-interval:PT1H}")
+    public void pruneExpired() {
+        int pruned = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        log.info("Idempotency cleanup removed {} expired records", pruned);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static Claim claimOf(String storedFingerprint, StoredResponse response, String fingerprint) {
+        if (!storedFingerprint.equals(fingerprint)) {
+            return new Claim(Outcome.MISMATCH, null);
+        }
+        return response == null ? new Claim(Outcome.IN_FLIGHT, null) : new Claim(Outcome.REPLAY, response);
+    }
+
+    /**
+     * Trims a stripe to its capacity, least recently used first; must hold the stripe's lock.
+     * Expired entries are dropped, completed ones are returned for spilling, and executing ones are kept.
+     */
+    private List<Entry> evict(Stripe stripe, long now) {
+        List<Entry> spills = new ArrayList<>();
+        Iterator<Entry> eldest = stripe.entries.values().iterator();
+        while (stripe.entries.size() > stripeCapacity && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            if (entry.response == null && entry.expiresAtMillis > now) {
+                continue;
+            }
+            eldest.remove();
+            if (entry.response != null && entry.expiresAtMillis > now) {
+                spills.add(entry);
+            }
+        }
+        return spills;
+    }
+
+    private void spill(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<IdempotencyRecord> records = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            IdempotencyRecord record = new IdempotencyRecord();
+            record.setIdempotencyKey(entry.key);
+            record.setRequestFingerprint(entry.fingerprint);
+            record.setStatus(entry.response.status());
+            record.setContentType(entry.response.contentType());
+            record.setLocation(entry.response.location());
+            record.setEtag(entry.response.etag());
+            record.setBody(entry.response.body());
+            record.setExpiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.expiresAtMillis), ZoneId.systemDefault()));
+            records.add(record);
+        }
+        try {
+            idempotencyRecordRepository.saveAll(records);
+        } catch (RuntimeException e) {
+            // Losing a record only means a late retry of that request is executed again
+            log.warn("Could not spill {} idempotency records", records.size(), e);
+        }
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        // Access order, so iteration starts at the least recently used entry
+        final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * A key's state in memory; the response is null while the request is executing.
+     */
+    private record Entry(String key, String fingerprint, StoredResponse response, long expiresAtMillis) {}
+}
@@ -0,0 +1,12 @@
+package com.safework.api.domain.idempotency.service;
+
+/**
+ * The parts of a response that are replayed to a retried request: status, body and the headers a client acts on.
+ */
+public record StoredResponse(
+        int status,
+        String contentType,
+        String location,
+        String etag,
+        byte[] body
+) {}
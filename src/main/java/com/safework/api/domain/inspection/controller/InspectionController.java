@@ -0,0 +1,50 @@
+package com.safework.api.domain.inspection.controller;
+
+import com.safework.api.domain.inspection.dto.CreateInspectionRequest;
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.inspection.service.InspectionService;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/inspections") // All endpoints are versioned
+public class InspectionController {
+
+    private final InspectionService inspectionService;
+
+    /**
+     * Submits a completed inspection report. The report's responses are checked against the checklist's
+     * compiled template; see CompiledChecklist for the expected shape.
+     */
+    @PostMapping
+    public ResponseEntity<InspectionDto> createInspection(@Valid @RequestBody CreateInspectionRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        InspectionDto newInspection = inspectionService.createInspection(request, currentUser);
+        return new ResponseEntity<>(newInspection, HttpStatus.CREATED);
+    }
+
+    /**
+     * Retrieves a single inspection report by its unique ID.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<InspectionDto> getInspectionById(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        InspectionDto inspection = inspectionService.findInspectionById(id, currentUser);
+        return ResponseEntity.ok(inspection);
+    }
+
+    /**
+     * Retrieves the paginated inspection history of an asset.
+     */
+    @GetMapping(params = "assetId")
+    public ResponseEntity<Page<InspectionDto>> getInspectionsByAsset(@RequestParam Long assetId, @AuthenticationPrincipal AuthenticatedUser currentUser, Pageable pageable) {
+        Page<InspectionDto> inspections = inspectionService.findAllByAsset(assetId, currentUser, pageable);
+        return ResponseEntity.ok(inspections);
+    }
+}
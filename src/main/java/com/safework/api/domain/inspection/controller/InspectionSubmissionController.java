@@ -0,0 +1,47 @@
+package com.safework.api.domain.inspection.controller;
+
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.inspection.dto.InspectionSubmissionReceipt;
+import com.safework.api.domain.inspection.dto.SubmitInspectionRequest;
+import com.safework.api.domain.inspection.service.InspectionIngestionService;
+import com.safework.api.exception.ResourceNotFoundException;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Asynchronous inspection ingestion, enabled with safework.inspections.ingest.enabled.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/inspections/submissions") // All endpoints are versioned
+@ConditionalOnProperty(name = "safework.inspections.ingest.enabled", havingValue = "true")
+public class InspectionSubmissionController {
+
+    private final InspectionIngestionService inspectionIngestionService;
+
+    /**
+     * Accepts an inspection, with the issues it raised, for background writing.
+     * Answers 202 once the submission is journaled; resubmitting with the same submissionId is safe.
+     */
+    @PostMapping
+    public ResponseEntity<InspectionSubmissionReceipt> submitInspection(@Valid @RequestBody SubmitInspectionRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        InspectionSubmissionReceipt receipt = inspectionIngestionService.submit(request, currentUser);
+        return new ResponseEntity<>(receipt, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Retrieves the inspection written for one of the caller's submissions; 404 while it is still queued.
+     */
+    @GetMapping("/{submissionId}")
+    public ResponseEntity<InspectionDto> getSubmittedInspection(@PathVariable String submissionId, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        InspectionDto inspection = inspectionIngestionService.findSubmission(submissionId, currentUser)
+                .orElseThrow(() -> new ResourceNotFoundException("No inspection has been written for submission: " + submissionId));
+        return ResponseEntity.ok(inspection);
+    }
+}
@@ -0,0 +1,23 @@
+package com.safework.api.domain.inspection.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+public record CreateInspectionRequest(
+        @NotNull(message = "Asset ID is required")
+        Long assetId,
+
+        @NotNull(message = "Checklist ID is required")
+        Long checklistId,
+
+        // The checklist version the inspector filled in; omitted means the current one
+        Integer checklistVersion,
+
+        @NotBlank(message = "Status is required")
+        String status,
+
+        @NotNull(message = "Report data is required")
+        Map<String, Object> reportData
+) {}
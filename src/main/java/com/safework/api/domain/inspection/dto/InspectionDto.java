@@ -0,0 +1,14 @@
+package com.safework.api.domain.inspection.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record InspectionDto(
+        Long id,
+        Long assetId,
+        Long checklistId,
+        Long userId,
+        String status,
+        Map<String, Object> reportData,
+        LocalDateTime completedAt
+) {}
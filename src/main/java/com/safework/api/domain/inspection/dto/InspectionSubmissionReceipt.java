@@ -0,0 +1,11 @@
+package com.safework.api.domain.inspection.dto;
+
+import java.time.Instant;
+
+/**
+ * Acknowledges a journaled submission. The inspection can be fetched by submission id once it has been ingested.
+ */
+public record InspectionSubmissionReceipt(
+        String submissionId,
+        Instant acceptedAt
+) {}
@@ -0,0 +1,19 @@
+package com.safework.api.domain.inspection.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SubmitInspectionRequest(
+        // Client-chosen idempotency key; resubmitting with the same key is accepted but written only once
+        @Size(max = 64, message = "Submission ID must be at most 64 characters")
+        String submissionId,
+
+        @NotNull(message = "Inspection is required")
+        @Valid
+        CreateInspectionRequest inspection,
+
+        List<@Valid SubmittedIssue> issues
+) {}
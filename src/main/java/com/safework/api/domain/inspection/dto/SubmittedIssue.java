@@ -0,0 +1,16 @@
+package com.safework.api.domain.inspection.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * An issue raised by a submitted inspection; it is reported against the inspected asset.
+ */
+public record SubmittedIssue(
+        @NotBlank(message = "Description is required")
+        String description,
+
+        // Defaults to MEDIUM when omitted
+        String priority,
+
+        String photoUrl
+) {}
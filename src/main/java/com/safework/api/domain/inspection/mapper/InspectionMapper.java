@@ -0,0 +1,21 @@
+package com.safework.api.domain.inspection.mapper;
+
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.inspection.model.Inspection;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InspectionMapper {
+
+    public InspectionDto toDto(Inspection inspection) {
+        return new InspectionDto(
+                inspection.getId(),
+                inspection.getAsset().getId(),
+                inspection.getChecklist().getId(),
+                inspection.getUser().getId(),
+                inspection.getStatus().name(),
+                inspection.getReportData(),
+                inspection.getCompletedAt()
+        );
+    }
+}
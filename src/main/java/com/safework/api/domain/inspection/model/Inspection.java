@@ -5,8 +5,12 @@ import com.safework.api.domain.checklist.model.Checklist;
 import com.safework.api.domain.issue.model.Issue;
 import com.safework.api.domain.user.model.User;
 import com.safework.api.domain.util.JsonValidator;
+import com.safework.api.domain.util.TimeOrderedId;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -21,11 +25,13 @@ import java.util.Map;
  */
 @Data
 @Entity
-@Table(name = "inspections")
+@Table(name = "inspections", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"submission_id"})
+})
 public class Inspection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId // Assigned in the JVM so inserts can be batched
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,23 +58,43 @@ public class Inspection {
     @Column(nullable = false, updatable = false)
     private LocalDateTime completedAt;
 
+    // Idempotency key of a journaled submission (scoped to its user), so a replayed submission is written at most once
+    @Column(name = "submission_id", length = 100, updatable = false)
+    private String submissionId;
+
     // --- Relationships ---
 
     @OneToMany(mappedBy = "inspection", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Issue> issues;
     
+    // --- Validation memo (not persisted) ---
+    // The read-only snapshot the setter validated and stored; while reportData is still this very map it cannot have changed.
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Map<String, Object> validatedReportData;
+
     // --- Lifecycle Hooks ---
     
     @PrePersist
     @PreUpdate
     private void validateJsonData() {
-        JsonValidator.validateJson(this.reportData, "reportData");
+        // Skipped only for the setter's snapshot; a map loaded by Hibernate is mutable and may have been changed in place
+        if (this.reportData != this.validatedReportData) {
+            JsonValidator.validateJson(this.reportData, "reportData");
+        }
     }
     
     // --- Setters with validation ---
     
+    /**
+     * Validates the data and stores a read-only snapshot of it, so it cannot change after validation.
+     * To change it, set a modified {@link JsonValidator#deepCopy}.
+     */
     public void setReportData(Map<String, Object> reportData) {
         JsonValidator.validateJson(reportData, "reportData");
-        this.reportData = reportData;
+        this.reportData = JsonValidator.immutableCopy(reportData);
+        this.validatedReportData = this.reportData;
     }
 }
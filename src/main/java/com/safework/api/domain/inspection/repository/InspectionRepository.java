@@ -0,0 +1,58 @@
+package com.safework.api.domain.inspection.repository;
+
+import com.safework.api.domain.inspection.model.Inspection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repository interface for managing Inspection entities.
+ * Extends JpaRepository to provide standard CRUD operations.
+ */
+@Repository
+public interface InspectionRepository extends JpaRepository<Inspection, Long> {
+
+    /**
+     * Finds the inspection history of an asset, with pagination support.
+     *
+     * @param assetId  The ID of the asset.
+     * @param pageable The pagination information (page number, size, and sorting).
+     * @return A Page of inspections for the given asset.
+     */
+    Page<Inspection> findAllByAssetId(Long assetId, Pageable pageable);
+
+    /**
+     * Loads the given inspections of one organization; inspections belong to an organization through their asset.
+     * Ids from other organizations are skipped.
+     *
+     * @param organizationId The ID of the organization.
+     * @param ids            The inspection ids to load.
+     * @return The inspections found, in no particular order.
+     */
+    @Query("select i from Inspection i where i.asset.organization.id = :organizationId and i.id in :ids")
+    List<Inspection> findAllByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Finds the inspection written for a journaled submission.
+     *
+     * @param submissionId The submission's idempotency key.
+     * @return The inspection, or empty while the submission has not been ingested.
+     */
+    Optional<Inspection> findBySubmissionId(String submissionId);
+
+    /**
+     * Checks which of the given submissions have already been ingested.
+     *
+     * @param submissionIds The submissions' idempotency keys.
+     * @return The keys that already have an inspection.
+     */
+    @Query("select i.submissionId from Inspection i where i.submissionId in :submissionIds")
+    Set<String> findExistingSubmissionIds(Collection<String> submissionIds);
+}
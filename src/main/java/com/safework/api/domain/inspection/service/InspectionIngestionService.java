@@ -0,0 +1,330 @@
+package com.safework.api.domain.inspection.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safework.api.domain.inspection.dto.CreateInspectionRequest;
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.inspection.dto.InspectionSubmissionReceipt;
+import com.safework.api.domain.inspection.dto.SubmitInspectionRequest;
+import com.safework.api.domain.inspection.dto.SubmittedIssue;
+import com.safework.api.domain.inspection.repository.InspectionRepository;
+import com.safework.api.domain.issue.dto.CreateIssueRequest;
+import com.safework.api.domain.issue.service.IssueService;
+import com.safework.api.domain.user.model.UserRole;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.exception.ServiceUnavailableException;
+import com.safework.api.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts inspection submissions by appending them to a local journal, and writes them to the database from a
+ * small pool of workers, so a burst of submissions at shift start is absorbed at journal speed instead of
+ * waiting on database writes.
+ *
+ * A submission is checked with the same rules as POST /v1/inspections, and its issues with those of issue
+ * creation, before it is journaled, so a submission that would be rejected still gets its 400 immediately.
+ * It is journaled with the checklist version its report passed against, so a later checklist edit does not
+ * make the workers reject it.
+ * Workers take journaled submissions in batches and write each batch (every inspection plus the issues it raised)
+ * in one transaction; if the batch fails it is replayed one submission per transaction. Transient failures, such
+ * as the database being unavailable or a deadlock, are retried with backoff until they succeed. Any other failure
+ * would happen again on every retry, so the submission is counted as rejected and appended, with the reason,
+ * to {@value #DEAD_LETTER_FILE} in the journal directory for an operator to inspect or resubmit.
+ *
+ * Journal records are only completed after their transaction commits. Everything not completed is replayed after
+ * a restart, and each submission's idempotency key (scoped to its user) makes sure it is written at most once.
+ */
+@Service
+@ConditionalOnProperty(name = "safework.inspections.ingest.enabled", havingValue = "true")
+public class InspectionIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(InspectionIngestionService.class);
+
+    private static final String BACKLOG_GAUGE = "safework.inspections.ingest.backlog";
+    private static final String REJECTED_COUNTER = "safework.inspections.ingest.rejected";
+    private static final long RETRY_AFTER_SECONDS = 5;
+    private static final long INITIAL_RETRY_DELAY_MS = 100;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+    private static final String DEAD_LETTER_FILE = "rejected.ndjson";
+
+    private final InspectionService inspectionService;
+    private final IssueService issueService;
+    private final InspectionRepository inspectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final InspectionJournal journal;
+    private final Path deadLetterFile;
+    private final Counter rejectedSubmissions;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final int batchSize;
+    private volatile boolean running;
+
+    public InspectionIngestionService(InspectionService inspectionService,
+                                      IssueService issueService,
+                                      InspectionRepository inspectionRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${safework.inspections.ingest.journal-dir}") Path journalDir,
+                                      @Value("${safework.inspections.ingest.segment-size:16MB}") DataSize segmentSize,
+                                      @Value("${safework.inspections.ingest.max-segments:64}") int maxSegments,
+                                      @Value("${safework.inspections.ingest.fsync:false}") boolean fsync,
+                                      @Value("${safework.inspections.ingest.workers:2}") int workerCount,
+                                      @Value("${safework.inspections.ingest.batch-size:50}") int batchSize) {
+        this.inspectionService = inspectionService;
+        this.issueService = issueService;
+        this.inspectionRepository = inspectionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        try {
+            this.journal = new InspectionJournal(journalDir, Math.toIntExact(segmentSize.toBytes()), maxSegments, fsync);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the inspection journal in " + journalDir, e);
+        }
+        this.deadLetterFile = journalDir.resolve(DEAD_LETTER_FILE);
+        this.rejectedSubmissions = Counter.builder(REJECTED_COUNTER)
+                .description("Journaled inspection submissions set aside because they could not be written")
+                .register(meterRegistry);
+        Gauge.builder(BACKLOG_GAUGE, journal, InspectionJournal::backlog)
+                .description("Journaled inspection submissions not yet written to the database")
+                .register(meterRegistry);
+        this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("inspection-ingest-"));
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Checks and journals a submission. Once this returns, the submission will be written, even across a restart.
+     *
+     * @throws ServiceUnavailableException if the journal is full because the workers are falling behind
+     */
+    public InspectionSubmissionReceipt submit(SubmitInspectionRequest request, AuthenticatedUser currentUser) {
+        CreateInspectionRequest inspection = request.inspection();
+        int checklistVersion = inspectionService.validateInspection(inspection, currentUser);
+        List<SubmittedIssue> issues = request.issues() != null ? request.issues() : List.of();
+        for (SubmittedIssue issue : issues) {
+            // The workers would drop the whole submission over a bad issue, so it must fail here with a 400
+            IssueService.parsePriority(issue.priority());
+        }
+
+        String submissionId = request.submissionId() != null ? request.submissionId() : UUID.randomUUID().toString();
+        JournaledSubmission submission = new JournaledSubmission(
+                idempotencyKey(currentUser, submissionId),
+                currentUser.id(),
+                currentUser.email(),
+                currentUser.organizationId(),
+                currentUser.role(),
+                Instant.now(),
+                // Pinned to the version it was checked against, so the workers keep it as accepted even if the
+                // checklist is edited before they get to it, as they would a report filled in offline
+                new CreateInspectionRequest(inspection.assetId(), inspection.checklistId(), checklistVersion,
+                        inspection.status(), inspection.reportData()),
+                issues
+        );
+        try {
+            journal.append(objectMapper.writeValueAsBytes(submission));
+        } catch (InspectionJournal.JournalFullException e) {
+            throw new ServiceUnavailableException("Inspection submissions are backed up, please retry shortly", RETRY_AFTER_SECONDS);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Inspection submission is too large");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize inspection submission", e);
+        }
+        return new InspectionSubmissionReceipt(submissionId, submission.acceptedAt());
+    }
+
+    /**
+     * @return the inspection written for one of the current user's submissions, empty while it is still queued
+     */
+    public Optional<InspectionDto> findSubmission(String submissionId, AuthenticatedUser currentUser) {
+        return inspectionService.findBySubmissionId(idempotencyKey(currentUser, submissionId), currentUser);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() {
+        long backlog = journal.backlog();
+        if (backlog > 0) {
+            log.info("Replaying {} journaled inspection submissions", backlog);
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stopWorkers() throws InterruptedException {
+        running = false;
+        // Wakes idle workers; busy ones finish their batch, and anything left over is replayed on the next start
+        journal.close();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                List<InspectionJournal.Record> records = journal.poll(batchSize, 1, TimeUnit.SECONDS);
+                if (!records.isEmpty()) {
+                    ingest(records);
+                    journal.complete(records);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void ingest(List<InspectionJournal.Record> records) throws InterruptedException {
+        List<JournaledSubmission> submissions = new ArrayList<>(records.size());
+        for (InspectionJournal.Record record : records) {
+            try {
+                submissions.add(objectMapper.readValue(record.payload(), JournaledSubmission.class));
+            } catch (IOException e) {
+                rejectedSubmissions.increment();
+                log.error("Dropping unreadable journaled inspection submission", e);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(submissions));
+            return;
+        } catch (RuntimeException batchFailure) {
+            // Nothing from the batch was committed; find the culprits one submission at a time
+        }
+        for (JournaledSubmission submission : submissions) {
+            writeWithRetry(submission);
+        }
+    }
+
+    private void writeWithRetry(JournaledSubmission submission) throws InterruptedException {
+        long delayMs = INITIAL_RETRY_DELAY_MS;
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(List.of(submission)));
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    rejectUnlessWritten(submission, e);
+                    return;
+                }
+                log.warn("Could not write inspection submission {}, retrying in {} ms", submission.idempotencyKey(), delayMs, e);
+                Thread.sleep(delayMs);
+                delayMs = Math.min(delayMs * 2, MAX_RETRY_DELAY_MS);
+            }
+        }
+    }
+
+    private void write(List<JournaledSubmission> submissions) {
+        Set<String> keys = new HashSet<>();
+        submissions.forEach(submission -> keys.add(submission.idempotencyKey()));
+        Set<String> written = new HashSet<>(inspectionRepository.findExistingSubmissionIds(keys));
+
+        for (JournaledSubmission submission : submissions) {
+            if (!written.add(submission.idempotencyKey())) {
+                continue; // Already written before a crash, or submitted twice by the client
+            }
+            AuthenticatedUser submittedBy = submission.submittedBy();
+            InspectionDto inspection = inspectionService.createInspection(submission.inspection(), submission.idempotencyKey(), submittedBy);
+            for (SubmittedIssue issue : submission.issues()) {
+                issueService.createIssue(new CreateIssueRequest(inspection.assetId(), inspection.id(),
+                        issue.description(), issue.priority(), issue.photoUrl()), submittedBy);
+            }
+        }
+    }
+
+    private void rejectUnlessWritten(JournaledSubmission submission, RuntimeException e) {
+        try {
+            // A unique key violation may just mean a concurrent worker wrote the same submission
+            if (!inspectionRepository.findExistingSubmissionIds(Set.of(submission.idempotencyKey())).isEmpty()) {
+                return;
+            }
+        } catch (RuntimeException checkFailure) {
+            // Set it aside anyway: resubmitting it under its idempotency key is harmless if it was written after all
+        }
+        rejectedSubmissions.increment();
+        log.warn("Rejecting inspection submission {}: {}", submission.idempotencyKey(), e.getMessage());
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(new RejectedSubmission(Instant.now(), e.toString(), submission));
+            synchronized (this) {
+                try (OutputStream out = Files.newOutputStream(deadLetterFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    out.write(line);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException ioe) {
+            log.error("Could not record rejected inspection submission {} in {}", submission.idempotencyKey(), deadLetterFile, ioe);
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        // Lock timeouts, deadlocks, query timeouts and lost or unavailable connections; anything else, from a
+        // domain rule to a constraint violation, would fail the same way on every retry
+        return e instanceof TransientDataAccessException || e instanceof CannotCreateTransactionException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private static String idempotencyKey(AuthenticatedUser user, String submissionId) {
+        return user.id() + ":" + submissionId;
+    }
+
+    /**
+     * A submission as written to the journal, with the identity of the user who made it.
+     */
+    record JournaledSubmission(
+            String idempotencyKey,
+            Long userId,
+            String email,
+            Long organizationId,
+            UserRole role,
+            Instant acceptedAt,
+            CreateInspectionRequest inspection,
+            List<SubmittedIssue> issues
+    ) {
+        AuthenticatedUser submittedBy() {
+            return new AuthenticatedUser(userId, email, organizationId, role);
+        }
+    }
+
+    /**
+     * A line of the dead-letter file: a submission the workers could not write, and why.
+     */
+    record RejectedSubmission(Instant rejectedAt, String reason, JournaledSubmission submission) {}
+}
@@ -0,0 +1,312 @@
+package com.safework.api.domain.inspection.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of opaque records in memory-mapped segment files on local disk.
+ *
+ * A record is [length][CRC32][payload]. The length is written last, so a record torn by a crash reads as the end
+ * of its segment; new segments are zero-filled, so a zero length also marks the end. Appends go to the newest
+ * segment, consumers take records in append order with {@link #poll}, and a segment file is deleted once it is
+ * sealed and every record in it has been {@linkplain #complete completed}.
+ *
+ * When opened, the journal hands out every record still on disk again, including ones that were taken but not
+ * completed before a crash, so consumers must be idempotent. The number of segments is bounded; when all are in
+ * use, appends fail with {@link JournalFullException} until consumers catch up.
+ */
+public class InspectionJournal implements Closeable {
+
+    private static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final boolean forceOnAppend;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition recordsAppended = lock.newCondition();
+    // Oldest first; only the last one can still be written to
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment writeSegment;
+    private long nextSequence;
+    private boolean closed;
+
+    /**
+     * @param forceOnAppend flush every append to the storage device before returning; without it an appended
+     *                      record survives a process crash but not an operating system crash or power loss
+     */
+    public InspectionJournal(Path directory, int segmentSize, int maxSegments, boolean forceOnAppend) throws IOException {
+        if (segmentSize <= HEADER_BYTES || maxSegments < 1) {
+            throw new IllegalArgumentException("A journal needs at least one segment larger than " + HEADER_BYTES + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.forceOnAppend = forceOnAppend;
+
+        Files.createDirectories(directory);
+        List<Path> existing;
+        try (Stream<Path> files = Files.list(directory)) {
+            existing = files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path path : existing) {
+            Segment segment = recover(path);
+            nextSequence = segment.sequence + 1;
+            if (segment.appended == 0) {
+                Files.deleteIfExists(path);
+            } else {
+                segments.add(segment);
+            }
+        }
+    }
+
+    /**
+     * Appends a record. Once this returns, the record is in the segment file and will be handed out by
+     * {@link #poll}, now or after a restart.
+     *
+     * @throws JournalFullException if every segment is in use
+     * @throws IllegalArgumentException if the record is empty or cannot fit in a segment
+     */
+    public void append(byte[] payload) {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("A journal record may not be empty");
+        }
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("A journal record may be at most " + (segmentSize - HEADER_BYTES) + " bytes");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The journal is closed");
+            }
+            if (writeSegment != null && writeSegment.writePosition + recordSize > segmentSize) {
+                writeSegment.sealed = true;
+                writeSegment = null;
+                deleteCompletedSegments();
+            }
+            if (writeSegment == null) {
+                if (segments.size() >= maxSegments) {
+                    throw new JournalFullException("All " + maxSegments + " journal segments hold records that have not been completed");
+                }
+                writeSegment = create(nextSequence++);
+                segments.add(writeSegment);
+            }
+
+            MappedByteBuffer buffer = writeSegment.buffer;
+            int position = writeSegment.writePosition;
+            buffer.putInt(position + 4, (int) crc.getValue());
+            buffer.put(position + HEADER_BYTES, payload);
+            buffer.putInt(position, payload.length);
+            if (forceOnAppend) {
+                buffer.force(position, recordSize);
+            }
+            writeSegment.writePosition += recordSize;
+            writeSegment.appended++;
+            recordsAppended.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes up to {@code maxRecords} records in append order, waiting up to the timeout for the first one.
+     *
+     * @return the records taken, empty if none arrived in time or the journal was closed
+     */
+    public List<Record> poll(int maxRecords, long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        List<Record> records = new ArrayList<>();
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                for (Segment segment : segments) {
+                    while (records.size() < maxRecords && segment.readPosition < segment.writePosition) {
+                        records.add(read(segment));
+                    }
+                }
+                if (!records.isEmpty() || closed || remainingNanos <= 0) {
+                    return records;
+                }
+                remainingNanos = recordsAppended.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks records as durably handled elsewhere, so their segments can be deleted.
+     */
+    public void complete(List<Record> records) {
+        lock.lock();
+        try {
+            for (Record record : records) {
+                record.segment.completed++;
+            }
+            deleteCompletedSegments();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return records appended (or recovered) and not yet completed
+     */
+    public long backlog() {
+        lock.lock();
+        try {
+            long backlog = 0;
+            for (Segment segment : segments) {
+                backlog += segment.appended - segment.completed;
+            }
+            return backlog;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting appends and wakes up waiting consumers. Records not completed stay on disk for the next open.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            for (Segment segment : segments) {
+                segment.buffer.force();
+            }
+            recordsAppended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Record read(Segment segment) {
+        int position = segment.readPosition;
+        byte[] payload = new byte[segment.buffer.getInt(position)];
+        segment.buffer.get(position + HEADER_BYTES, payload);
+        segment.readPosition += HEADER_BYTES + payload.length;
+        return new Record(segment, payload);
+    }
+
+    private void deleteCompletedSegments() {
+        Iterator<Segment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            Segment segment = iterator.next();
+            if (segment.sealed && segment.completed >= segment.appended) {
+                try {
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not delete journal segment " + segment.path, e);
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private Segment create(long sequence) {
+        Path path = directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping outlives the channel; the file is extended with zeros to the full segment size
+            return new Segment(sequence, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create journal segment " + path, e);
+        }
+    }
+
+    private static Segment recover(Path path) throws IOException {
+        String fileName = path.getFileName().toString();
+        long sequence = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+        Segment segment;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = new Segment(sequence, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        }
+
+        // Records run up to the first zero length, out-of-bounds length or checksum mismatch
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.capacity() - position - HEADER_BYTES) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            position += HEADER_BYTES + length;
+            segment.appended++;
+        }
+        segment.writePosition = position;
+        segment.sealed = true;
+        return segment;
+    }
+
+    private static final class Segment {
+        final long sequence;
+        final Path path;
+        final MappedByteBuffer buffer;
+        int writePosition;
+        int readPosition;
+        int appended;
+        int completed;
+        boolean sealed;
+
+        Segment(long sequence, Path path, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * A record taken from the journal; pass it back to {@link #complete} once it has been handled.
+     */
+    public static final class Record {
+        private final Segment segment;
+        private final byte[] payload;
+
+        private Record(Segment segment, byte[] payload) {
+            this.segment = segment;
+            this.payload = payload;
+        }
+
+        public byte[] payload() {
+            return payload;
+        }
+    }
+
+    /**
+     * Thrown by {@link #append} while every segment still holds records that have not been completed.
+     */
+    public static class JournalFullException extends RuntimeException {
+        public JournalFullException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.safework.api.domain.inspection.service;
+
+import com.safework.api.domain.asset.model.Asset;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.checklist.model.ChecklistStatus;
+import com.safework.api.domain.checklist.repository.ChecklistRepository;
+import com.safework.api.domain.checklist.service.ChecklistTemplate;
+import com.safework.api.domain.checklist.service.ChecklistTemplateCache;
+import com.safework.api.domain.inspection.dto.CreateInspectionRequest;
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.inspection.mapper.InspectionMapper;
+import com.safework.api.domain.inspection.model.Inspection;
+import com.safework.api.domain.inspection.model.InspectionStatus;
+import com.safework.api.domain.inspection.repository.InspectionRepository;
+import com.safework.api.domain.sync.model.SyncEntityType;
+import com.safework.api.domain.sync.service.SyncChangeLog;
+import com.safework.api.domain.user.repository.UserRepository;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.exception.ResourceNotFoundException;
+import com.safework.api.security.AuthenticatedUser;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+@Transactional // Ensures all database operations in a method are atomic
+public class InspectionService {
+
+    private final InspectionRepository inspectionRepository;
+    private final AssetRepository assetRepository;
+    private final ChecklistRepository checklistRepository;
+    private final UserRepository userRepository;
+    private final InspectionMapper inspectionMapper;
+    private final SyncChangeLog syncChangeLog;
+    private final ChecklistTemplateCache checklistTemplateCache;
+
+    public InspectionService(InspectionRepository inspectionRepository, AssetRepository assetRepository,
+                             ChecklistRepository checklistRepository, UserRepository userRepository,
+                             InspectionMapper inspectionMapper, SyncChangeLog syncChangeLog,
+                             ChecklistTemplateCache checklistTemplateCache) {
+        this.inspectionRepository = inspectionRepository;
+        this.assetRepository = assetRepository;
+        this.checklistRepository = checklistRepository;
+        this.userRepository = userRepository;
+        this.inspectionMapper = inspectionMapper;
+        this.syncChangeLog = syncChangeLog;
+        this.checklistTemplateCache = checklistTemplateCache;
+    }
+
+    /**
+     * Records a completed inspection by the current user. Asset and checklist must belong to the user's organization.
+     */
+    public InspectionDto createInspection(CreateInspectionRequest request, AuthenticatedUser currentUser) {
+        return createInspection(request, null, currentUser);
+    }
+
+    /**
+     * Records a completed inspection under a submission's idempotency key; see InspectionIngestionService.
+     * The caller checks that the key has not been used yet, and the unique key rejects a concurrent duplicate.
+     */
+    public InspectionDto createInspection(CreateInspectionRequest request, String submissionId, AuthenticatedUser currentUser) {
+        Asset asset = findInspectableAsset(request, currentUser);
+        ChecklistTemplate checklist = findValidatedChecklist(request, currentUser);
+
+        Inspection inspection = new Inspection();
+        inspection.setAsset(asset);
+        inspection.setChecklist(checklistRepository.getReferenceById(checklist.checklistId()));
+        inspection.setUser(userRepository.getReferenceById(currentUser.id()));
+        inspection.setStatus(parseStatus(request.status()));
+        inspection.setReportData(request.reportData());
+        inspection.setSubmissionId(submissionId);
+
+        Inspection savedInspection = inspectionRepository.save(inspection);
+        syncChangeLog.record(currentUser.organizationId(), SyncEntityType.INSPECTION, savedInspection.getId());
+        return inspectionMapper.toDto(savedInspection);
+    }
+
+    /**
+     * Runs every check createInspection would, without writing anything, so a submission that is going to be
+     * written later can be rejected while the client is still waiting.
+     *
+     * @return the checklist version the report was checked against, or filled in against if that is older
+     */
+    @Transactional(readOnly = true)
+    public int validateInspection(CreateInspectionRequest request, AuthenticatedUser currentUser) {
+        findInspectableAsset(request, currentUser);
+        ChecklistTemplate checklist = findValidatedChecklist(request, currentUser);
+        parseStatus(request.status());
+        return request.checklistVersion() != null ? request.checklistVersion() : checklist.version();
+    }
+
+    private Asset findInspectableAsset(CreateInspectionRequest request, AuthenticatedUser currentUser) {
+        Asset asset = assetRepository.findById(request.assetId())
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + request.assetId()));
+
+        // --- Multi-Tenancy Security Check ---
+        if (!asset.getOrganization().getId().equals(currentUser.organizationId())) {
+            throw new AccessDeniedException("You do not have permission to inspect this asset.");
+        }
+        return asset;
+    }
+
+    private ChecklistTemplate findValidatedChecklist(CreateInspectionRequest request, AuthenticatedUser currentUser) {
+        // Served from the template cache, so the template JSON is only read when the checklist has changed
+        ChecklistTemplate checklist = checklistTemplateCache.get(currentUser.organizationId(), request.checklistId())
+                .orElseThrow(() -> new ResourceNotFoundException("Checklist not found with id: " + request.checklistId()));
+        if (checklist.status() != ChecklistStatus.ACTIVE) {
+            throw new BadRequestException("Checklist " + request.checklistId() + " is archived and cannot be used for new inspections");
+        }
+        Integer filledVersion = request.checklistVersion();
+        if (filledVersion != null && (filledVersion < 0 || filledVersion > checklist.version())) {
+            throw new BadRequestException("Checklist " + request.checklistId() + " has no version " + filledVersion
+                    + "; the current version is " + checklist.version());
+        }
+        // A report filled in offline against an older version is kept as submitted; only older templates could judge it
+        if (filledVersion == null || filledVersion == checklist.version()) {
+            checklist.compiled().validate(request.reportData());
+        }
+        return checklist;
+    }
+
+    @Transactional(readOnly = true)
+    public InspectionDto findInspectionById(Long id, AuthenticatedUser currentUser) {
+        Inspection inspection = inspectionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Inspection not found with id: " + id));
+
+        // --- Multi-Tenancy Security Check ---
+        if (!inspection.getAsset().getOrganization().getId().equals(currentUser.organizationId())) {
+            throw new AccessDeniedException("You do not have permission to access this inspection.");
+        }
+        return inspectionMapper.toDto(inspection);
+    }
+
+    /**
+     * Retrieves the inspection written for a journaled submission; empty until the submission has been ingested.
+     */
+    @Transactional(readOnly = true)
+    public Optional<InspectionDto> findBySubmissionId(String submissionId, AuthenticatedUser currentUser) {
+        return inspectionRepository.findBySubmissionId(submissionId)
+                // Another organization's submission is reported as not found, like one that does not exist
+                .filter(inspection -> inspection.getAsset().getOrganization().getId().equals(currentUser.organizationId()))
+                .map(inspectionMapper::toDto);
+    }
+
+    /**
+     * Retrieves an asset's inspection history. The asset must belong to the user's organization.
+     */
+    @Transactional(readOnly = true)
+    public Page<InspectionDto> findAllByAsset(Long assetId, AuthenticatedUser currentUser, Pageable pageable) {
+        Asset asset = assetRepository.findById(assetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + assetId));
+
+        // --- Multi-Tenancy Security Check ---
+        if (!asset.getOrganization().getId().equals(currentUser.organizationId())) {
+            throw new AccessDeniedException("You do not have permission to access this asset.");
+        }
+        return inspectionRepository.findAllByAssetId(assetId, pageable).map(inspectionMapper::toDto);
+    }
+
+    private static InspectionStatus parseStatus(String status) {
+        try {
+            return InspectionStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid inspection status: " + status);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.safework.api.domain.issue.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record CreateIssueRequest(
+        @NotNull(message = "Asset ID is required")
+        Long assetId,
+
+        // inspectionId can be null for ad-hoc issues
+        Long inspectionId,
+
+        @NotBlank(message = "Description is required")
+        String description,
+
+        // Defaults to MEDIUM when omitted
+        String priority,
+
+        String photoUrl
+) {}
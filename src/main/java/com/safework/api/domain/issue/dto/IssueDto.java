@@ -0,0 +1,18 @@
+package com.safework.api.domain.issue.dto;
+
+import java.time.LocalDateTime;
+
+public record IssueDto(
+        Long id,
+        Long organizationId,
+        Long assetId,
+        Long inspectionId,
+        Long reporterId,
+        Long assigneeId,
+        String description,
+        String photoUrl,
+        String status,
+        String priority,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
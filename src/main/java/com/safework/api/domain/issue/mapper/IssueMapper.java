@@ -0,0 +1,26 @@
+package com.safework.api.domain.issue.mapper;
+
+import com.safework.api.domain.issue.dto.IssueDto;
+import com.safework.api.domain.issue.model.Issue;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IssueMapper {
+
+    public IssueDto toDto(Issue issue) {
+        return new IssueDto(
+                issue.getId(),
+                issue.getOrganization().getId(),
+                issue.getAsset().getId(),
+                issue.getInspection() != null ? issue.getInspection().getId() : null,
+                issue.getReporter().getId(),
+                issue.getAssignee() != null ? issue.getAssignee().getId() : null,
+                issue.getDescription(),
+                issue.getPhotoUrl(),
+                issue.getStatus().name(),
+                issue.getPriority().name(),
+                issue.getCreatedAt(),
+                issue.getUpdatedAt()
+        );
+    }
+}
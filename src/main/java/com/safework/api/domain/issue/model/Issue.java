@@ -4,6 +4,7 @@ import com.safework.api.domain.asset.model.Asset;
 import com.safework.api.domain.inspection.model.Inspection;
 import com.safework.api.domain.organization.model.Organization;
 import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.util.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
@@ -20,7 +21,7 @@ import java.time.LocalDateTime;
 public class Issue {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId // Assigned in the JVM so inserts can be batched
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,36 @@
+package com.safework.api.domain.issue.repository;
+
+import com.safework.api.domain.issue.model.Issue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing Issue entities.
+ * Extends JpaRepository to provide standard CRUD operations.
+ */
+@Repository
+public interface IssueRepository extends JpaRepository<Issue, Long> {
+
+    /**
+     * Finds all issues belonging to a specific organization, with pagination support.
+     *
+     * @param organizationId The ID of the organization.
+     * @param pageable       The pagination information (page number, size, and sorting).
+     * @return A Page of issues for the given organization.
+     */
+    Page<Issue> findAllByOrganizationId(Long organizationId, Pageable pageable);
+
+    /**
+     * Loads the given issues of one organization; ids from other organizations are skipped.
+     *
+     * @param organizationId The ID of the organization.
+     * @param ids            The issue ids to load.
+     * @return The issues found, in no particular order.
+     */
+    List<Issue> findAllByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+}
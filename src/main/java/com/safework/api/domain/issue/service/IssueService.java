@@ -0,0 +1,100 @@
+package com.safework.api.domain.issue.service;
+
+import com.safework.api.domain.asset.model.Asset;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.inspection.model.Inspection;
+import com.safework.api.domain.inspection.repository.InspectionRepository;
+import com.safework.api.domain.issue.dto.CreateIssueRequest;
+import com.safework.api.domain.issue.dto.IssueDto;
+import com.safework.api.domain.issue.mapper.IssueMapper;
+import com.safework.api.domain.issue.model.Issue;
+import com.safework.api.domain.issue.model.IssuePriority;
+import com.safework.api.domain.issue.model.IssueStatus;
+import com.safework.api.domain.issue.repository.IssueRepository;
+import com.safework.api.domain.organization.repository.OrganizationRepository;
+import com.safework.api.domain.sync.model.SyncEntityType;
+import com.safework.api.domain.sync.service.SyncChangeLog;
+import com.safework.api.domain.user.repository.UserRepository;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.exception.ResourceNotFoundException;
+import com.safework.api.security.AuthenticatedUser;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional // Ensures all database operations in a method are atomic
+public class IssueService {
+
+    private final IssueRepository issueRepository;
+    private final AssetRepository assetRepository;
+    private final InspectionRepository inspectionRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final IssueMapper issueMapper;
+    private final SyncChangeLog syncChangeLog;
+
+    public IssueService(IssueRepository issueRepository, AssetRepository assetRepository,
+                        InspectionRepository inspectionRepository, OrganizationRepository organizationRepository,
+                        UserRepository userRepository, IssueMapper issueMapper, SyncChangeLog syncChangeLog) {
+        this.issueRepository = issueRepository;
+        this.assetRepository = assetRepository;
+        this.inspectionRepository = inspectionRepository;
+        this.organizationRepository = organizationRepository;
+        this.userRepository = userRepository;
+        this.issueMapper = issueMapper;
+        this.syncChangeLog = syncChangeLog;
+    }
+
+    /**
+     * Reports a new, open issue against an asset, optionally raised by one of that asset's inspections.
+     */
+    public IssueDto createIssue(CreateIssueRequest request, AuthenticatedUser currentUser) {
+        Asset asset = assetRepository.findById(request.assetId())
+                .orElseThrow(() -> new ResourceNotFoundException("Asset not found with id: " + request.assetId()));
+
+        // --- Multi-Tenancy Security Check ---
+        if (!asset.getOrganization().getId().equals(currentUser.organizationId())) {
+            throw new AccessDeniedException("You do not have permission to report issues on this asset.");
+        }
+
+        Issue issue = new Issue();
+        if (request.inspectionId() != null) {
+            Inspection inspection = inspectionRepository.findById(request.inspectionId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Inspection not found with id: " + request.inspectionId()));
+            if (!inspection.getAsset().getId().equals(asset.getId())) {
+                throw new BadRequestException("Inspection " + request.inspectionId() + " is not an inspection of asset " + asset.getId());
+            }
+            issue.setInspection(inspection);
+        }
+        issue.setOrganization(organizationRepository.getReferenceById(currentUser.organizationId()));
+        issue.setAsset(asset);
+        issue.setReporter(userRepository.getReferenceById(currentUser.id()));
+        issue.setDescription(request.description());
+        issue.setPhotoUrl(request.photoUrl());
+        issue.setStatus(IssueStatus.OPEN);
+        issue.setPriority(parsePriority(request.priority()));
+
+        Issue savedIssue = issueRepository.save(issue);
+        syncChangeLog.record(currentUser.organizationId(), SyncEntityType.ISSUE, savedIssue.getId());
+        return issueMapper.toDto(savedIssue);
+    }
+
+    /**
+     * Parses an issue priority as given in a request. Public so callers that create issues later, such as
+     * queued inspection submissions, can reject a bad priority before accepting the request.
+     *
+     * @param priority the priority name, or null for MEDIUM
+     * @throws BadRequestException if the priority is not a known {@link IssuePriority}
+     */
+    public static IssuePriority parsePriority(String priority) {
+        if (priority == null) {
+            return IssuePriority.MEDIUM;
+        }
+        try {
+            return IssuePriority.valueOf(priority);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid issue priority: " + priority);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.safework.api.domain.maintenance.model;
 
 import com.safework.api.domain.asset.model.Asset;
 import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.util.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.math.BigDecimal;
@@ -12,7 +13,7 @@ import java.time.LocalDate;
 @Table(name = "maintenance_logs")
 public class MaintenanceLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId // Assigned in the JVM so inserts can be batched
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,73 @@
+package com.safework.api.domain.sync.controller;
+
+import com.safework.api.domain.sync.dto.SyncBootstrapResponse;
+import com.safework.api.domain.sync.dto.SyncPullResponse;
+import com.safework.api.domain.sync.dto.SyncPushRequest;
+import com.safework.api.domain.sync.dto.SyncPushResponse;
+import com.safework.api.domain.sync.service.SyncPullService;
+import com.safework.api.domain.sync.service.SyncPushService;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.security.AuthenticatedUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/sync") // All endpoints are versioned
+public class SyncController {
+
+    private static final int MAX_PULL_CHANGES = 1000;
+    private static final String DEVICE_ID_HEADER = "X-Device-Id";
+    private static final int MAX_DEVICE_ID_LENGTH = 100;
+
+    private final SyncPushService syncPushService;
+    private final SyncPullService syncPullService;
+
+    /**
+     * Applies a batch of changes queued by an offline client, in order, and reports the outcome of each.
+     * Conflicting asset updates come back as CONFLICT with the server's copy instead of failing the whole push.
+     */
+    @PostMapping("/push")
+    public ResponseEntity<SyncPushResponse> push(@Valid @RequestBody SyncPushRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        SyncPushResponse response = syncPushService.push(request, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Starts a device on the delta feed. Call this first, then download the listings, then pull with the
+     * returned cursor as "since"; changes made while the listings are read are delivered by that pull.
+     */
+    @PostMapping("/bootstrap")
+    public ResponseEntity<SyncBootstrapResponse> bootstrap(@AuthenticationPrincipal AuthenticatedUser currentUser,
+                                                           @RequestHeader(DEVICE_ID_HEADER) String deviceId) {
+        checkDeviceId(deviceId);
+        return ResponseEntity.ok(syncPullService.bootstrap(currentUser, deviceId));
+    }
+
+    /**
+     * Returns the assets, checklists, inspections and issues created, updated or deleted in the caller's
+     * organization since a cursor. Start from the cursor returned by /bootstrap, then pass the returned nextCursor;
+     * while hasMore is true, pull again right away. The X-Device-Id header names the device, so the server
+     * knows how far each device has got; a 410 means the device was away too long and must bootstrap again.
+     * Pulling without a cursor reads whatever history compaction has kept, so it is no substitute for bootstrapping.
+     */
+    @GetMapping("/pull")
+    public ResponseEntity<SyncPullResponse> pull(@AuthenticationPrincipal AuthenticatedUser currentUser,
+                                                 @RequestHeader(DEVICE_ID_HEADER) String deviceId,
+                                                 @RequestParam(required = false) String since,
+                                                 @RequestParam(defaultValue = "500") int limit) {
+        checkDeviceId(deviceId);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PULL_CHANGES));
+        SyncPullResponse response = syncPullService.pull(currentUser, deviceId, since, pageSize);
+        return ResponseEntity.ok(response);
+    }
+
+    private static void checkDeviceId(String deviceId) {
+        if (deviceId.isBlank() || deviceId.length() > MAX_DEVICE_ID_LENGTH) {
+            throw new BadRequestException(DEVICE_ID_HEADER + " must be 1 to " + MAX_DEVICE_ID_LENGTH + " characters");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.safework.api.domain.sync.dto;
+
+import com.safework.api.domain.asset.dto.MergeAssetRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * An offline edit of an asset applied by three-way merge, like PATCH /v1/assets/{id}.
+ * Only fields that were also changed on the server since changes.baseVersion make it a conflict.
+ */
+public record AssetMergeMutation(
+        @NotBlank(message = "Client mutation ID is required")
+        String clientMutationId,
+
+        @NotNull(message = "Asset ID is required")
+        Long assetId,
+
+        @NotNull(message = "Changes are required")
+        @Valid
+        MergeAssetRequest changes
+) implements SyncMutation {}
@@ -0,0 +1,21 @@
+package com.safework.api.domain.sync.dto;
+
+import com.safework.api.domain.asset.dto.UpdateAssetRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * An offline edit of an asset. changes.version is the version the client edited; a newer server version is a conflict.
+ */
+public record AssetUpdateMutation(
+        @NotBlank(message = "Client mutation ID is required")
+        String clientMutationId,
+
+        @NotNull(message = "Asset ID is required")
+        Long assetId,
+
+        @NotNull(message = "Changes are required")
+        @Valid
+        UpdateAssetRequest changes
+) implements SyncMutation {}
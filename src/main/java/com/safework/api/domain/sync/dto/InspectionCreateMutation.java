@@ -0,0 +1,18 @@
+package com.safework.api.domain.sync.dto;
+
+import com.safework.api.domain.inspection.dto.CreateInspectionRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * An inspection completed offline.
+ */
+public record InspectionCreateMutation(
+        @NotBlank(message = "Client mutation ID is required")
+        String clientMutationId,
+
+        @NotNull(message = "Inspection is required")
+        @Valid
+        CreateInspectionRequest inspection
+) implements SyncMutation {}
@@ -0,0 +1,21 @@
+package com.safework.api.domain.sync.dto;
+
+import com.safework.api.domain.issue.dto.CreateIssueRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * An issue reported offline. An issue raised by an inspection in the same push, which has no server id yet,
+ * names that inspection's clientMutationId in inspectionMutationId instead of setting issue.inspectionId.
+ */
+public record IssueCreateMutation(
+        @NotBlank(message = "Client mutation ID is required")
+        String clientMutationId,
+
+        String inspectionMutationId,
+
+        @NotNull(message = "Issue is required")
+        @Valid
+        CreateIssueRequest issue
+) implements SyncMutation {}
@@ -0,0 +1,10 @@
+package com.safework.api.domain.sync.dto;
+
+/**
+ * Where a device starts on the delta feed.
+ *
+ * @param cursor pass as "since" on the first pull, after downloading the listings; empty if the feed has no history
+ */
+public record SyncBootstrapResponse(
+        String cursor
+) {}
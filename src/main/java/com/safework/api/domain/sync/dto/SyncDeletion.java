@@ -0,0 +1,16 @@
+package com.safework.api.domain.sync.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A record the client should drop from its offline copy.
+ *
+ * @param entityType ASSET, CHECKLIST, INSPECTION or ISSUE
+ * @param version the record's version when it was deleted
+ */
+public record SyncDeletion(
+        String entityType,
+        Long id,
+        int version,
+        LocalDateTime deletedAt
+) {}
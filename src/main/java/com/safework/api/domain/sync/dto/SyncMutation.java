@@ -0,0 +1,20 @@
+package com.safework.api.domain.sync.dto;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One change queued by an offline client, identified by a client-chosen id that is echoed in its result.
+ * The "type" property selects the kind of change.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = AssetUpdateMutation.class, name = "ASSET_UPDATE"),
+        @JsonSubTypes.Type(value = AssetMergeMutation.class, name = "ASSET_MERGE"),
+        @JsonSubTypes.Type(value = InspectionCreateMutation.class, name = "INSPECTION_CREATE"),
+        @JsonSubTypes.Type(value = IssueCreateMutation.class, name = "ISSUE_CREATE")
+})
+public sealed interface SyncMutation permits AssetUpdateMutation, AssetMergeMutation, InspectionCreateMutation, IssueCreateMutation {
+
+    String clientMutationId();
+}
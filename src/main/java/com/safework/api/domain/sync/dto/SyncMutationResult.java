@@ -0,0 +1,35 @@
+package com.safework.api.domain.sync.dto;
+
+import com.safework.api.domain.asset.dto.AssetDto;
+
+/**
+ * Outcome of one pushed mutation.
+ *
+ * @param status APPLIED, CONFLICT (the server copy changed since the client's version) or REJECTED
+ * @param entityId the id of the created or updated entity; null unless APPLIED
+ * @param asset for asset updates, the server's copy: as updated when APPLIED, as it currently stands on CONFLICT
+ * @param error why the mutation was not applied; null when APPLIED
+ */
+public record SyncMutationResult(
+        String clientMutationId,
+        String status,
+        Long entityId,
+        AssetDto asset,
+        String error
+) {
+    public static final String APPLIED = "APPLIED";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String REJECTED = "REJECTED";
+
+    public static SyncMutationResult applied(String clientMutationId, Long entityId, AssetDto asset) {
+        return new SyncMutationResult(clientMutationId, APPLIED, entityId, asset, null);
+    }
+
+    public static SyncMutationResult conflict(String clientMutationId, AssetDto serverCopy, String error) {
+        return new SyncMutationResult(clientMutationId, CONFLICT, null, serverCopy, error);
+    }
+
+    public static SyncMutationResult rejected(String clientMutationId, String error) {
+        return new SyncMutationResult(clientMutationId, REJECTED, null, null, error);
+    }
+}
@@ -0,0 +1,25 @@
+package com.safework.api.domain.sync.dto;
+
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.checklist.dto.ChecklistDto;
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.issue.dto.IssueDto;
+
+import java.util.List;
+
+/**
+ * Everything that changed in the caller's organization between two cursors.
+ * Created and updated records come back in their current state; deleted ones only as ids.
+ *
+ * @param hasMore true if more changes are already available; pull again with nextCursor straight away
+ * @param nextCursor pass as "since" on the next pull; never null, unchanged if nothing new was found
+ */
+public record SyncPullResponse(
+        List<AssetDto> assets,
+        List<ChecklistDto> checklists,
+        List<InspectionDto> inspections,
+        List<IssueDto> issues,
+        List<SyncDeletion> deleted,
+        boolean hasMore,
+        String nextCursor
+) {}
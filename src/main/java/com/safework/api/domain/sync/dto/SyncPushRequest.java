@@ -0,0 +1,14 @@
+package com.safework.api.domain.sync.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * @param mutations the client's queued changes, applied in this order
+ */
+public record SyncPushRequest(
+        @NotNull(message = "Mutations are required")
+        List<@Valid SyncMutation> mutations
+) {}
@@ -0,0 +1,10 @@
+package com.safework.api.domain.sync.dto;
+
+import java.util.List;
+
+/**
+ * @param results one per pushed mutation, in push order
+ */
+public record SyncPushResponse(
+        List<SyncMutationResult> results
+) {}
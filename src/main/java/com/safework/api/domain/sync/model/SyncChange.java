@@ -0,0 +1,32 @@
+package com.safework.api.domain.sync.model;
+
+import com.safework.api.domain.util.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * One entry in an organization's change log: a record was created or updated. Written in the same transaction
+ * as the change it records. The id is time-ordered, so it doubles as the position clients resume the delta feed
+ * from. Deletions are recorded separately, as {@link SyncTombstone}s on the same id line.
+ */
+@Data
+@Entity
+@Table(name = "sync_changes", indexes = {
+        @Index(name = "idx_sync_changes_organization_id_id", columnList = "organization_id, id") // Delta feed
+})
+public class SyncChange {
+
+    @Id
+    @TimeOrderedId // Assigned in the JVM so inserts can be batched
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+}
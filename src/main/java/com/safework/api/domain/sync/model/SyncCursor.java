@@ -0,0 +1,37 @@
+package com.safework.api.domain.sync.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * How far one device has pulled the delta feed. The position is the cursor the device last sent,
+ * i.e. everything up to it has been applied on the device and no longer needs to be kept for it.
+ */
+@Data
+@Entity
+@Table(name = "sync_cursors", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"organization_id", "device_id"})
+})
+public class SyncCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "device_id", nullable = false, length = 100)
+    private String deviceId;
+
+    @Column(nullable = false)
+    private Long userId; // Who last pulled from this device
+
+    @Column(nullable = false)
+    private long position;
+
+    @Column(nullable = false)
+    private LocalDateTime lastPullAt;
+}
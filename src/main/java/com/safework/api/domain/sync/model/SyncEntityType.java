@@ -0,0 +1,11 @@
+package com.safework.api.domain.sync.model;
+
+/**
+ * The kinds of records offline clients keep a copy of and receive in the delta feed.
+ */
+public enum SyncEntityType {
+    ASSET,
+    CHECKLIST,
+    INSPECTION,
+    ISSUE
+}
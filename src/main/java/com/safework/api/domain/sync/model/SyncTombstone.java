@@ -0,0 +1,42 @@
+package com.safework.api.domain.sync.model;
+
+import com.safework.api.domain.util.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted record so syncing clients can drop their copy without diffing a full listing.
+ * Ids come from the same time-ordered sequence as {@link SyncChange}, so both share one cursor.
+ * Tombstones every active device has pulled past are pruned by the compaction job.
+ */
+@Data
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_organization_id_id", columnList = "organization_id, id") // Delta feed
+})
+public class SyncTombstone {
+
+    @Id
+    @TimeOrderedId // Assigned in the JVM so inserts can be batched
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private int version; // Last version of the record before it was deleted
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+}
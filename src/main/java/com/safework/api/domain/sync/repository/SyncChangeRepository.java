@@ -0,0 +1,60 @@
+package com.safework.api.domain.sync.repository;
+
+import com.safework.api.domain.sync.model.SyncChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for managing SyncChange entities.
+ * Extends JpaRepository to provide standard CRUD operations.
+ */
+@Repository
+public interface SyncChangeRepository extends JpaRepository<SyncChange, Long> {
+
+    /**
+     * Reads an organization's change log between two positions, seeking into the (organization_id, id) index.
+     *
+     * @param organizationId The ID of the organization.
+     * @param afterId        The id of the last change the client has seen (0 to start from the beginning).
+     * @param beforeId       Exclusive upper bound; changes at or above it are not returned yet.
+     * @param pageable       The page size; any sort is ignored in favour of id order.
+     * @return A Slice of changes in id order.
+     */
+    @Query("select c from SyncChange c where c.organizationId = :organizationId "
+            + "and c.id > :afterId and c.id < :beforeId order by c.id")
+    Slice<SyncChange> findByOrganizationIdBetween(Long organizationId, Long afterId, Long beforeId, Pageable pageable);
+
+    /**
+     * Reads the id of an organization's newest change, from the end of its (organization_id, id) index range.
+     *
+     * @param organizationId The ID of the organization.
+     * @return The id, or empty if the organization's change log is empty.
+     */
+    @Query("select max(c.id) from SyncChange c where c.organizationId = :organizationId")
+    Optional<Long> findMaxIdByOrganizationId(Long organizationId);
+
+    /**
+     * Prunes an organization's change log up to and including a position.
+     *
+     * @return the number of entries removed
+     */
+    @Modifying
+    @Query("delete from SyncChange c where c.organizationId = :organizationId and c.id <= :upToId")
+    int deleteByOrganizationIdUpTo(Long organizationId, Long upToId);
+
+    /**
+     * Prunes the change log of every organization that has no tracked device, up to and including a position.
+     *
+     * @return the number of entries removed
+     */
+    @Modifying
+    @Query("delete from SyncChange c where c.id <= :upToId "
+            + "and c.organizationId not in (select d.organizationId from SyncCursor d)")
+    int deleteUntrackedUpTo(Long upToId);
+}
@@ -0,0 +1,41 @@
+package com.safework.api.domain.sync.repository;
+
+import com.safework.api.domain.sync.model.SyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing SyncCursor entities.
+ * Extends JpaRepository to provide standard CRUD operations.
+ */
+@Repository
+public interface SyncCursorRepository extends JpaRepository<SyncCursor, Long> {
+
+    Optional<SyncCursor> findByOrganizationIdAndDeviceId(Long organizationId, String deviceId);
+
+    /**
+     * Forgets devices that have not pulled since the given time. They must bootstrap again when they return.
+     *
+     * @return the number of devices forgotten
+     */
+    @Modifying
+    @Query("delete from SyncCursor d where d.lastPullAt < :cutoff")
+    int deleteByLastPullAtBefore(LocalDateTime cutoff);
+
+    /**
+     * @return for each organization with a tracked device, the position of its slowest device
+     */
+    @Query("select d.organizationId as organizationId, min(d.position) as position from SyncCursor d group by d.organizationId")
+    List<OldestPosition> findOldestPositions();
+
+    interface OldestPosition {
+        Long getOrganizationId();
+        long getPosition();
+    }
+}
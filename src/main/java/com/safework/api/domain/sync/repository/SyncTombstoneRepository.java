@@ -0,0 +1,61 @@
+package com.safework.api.domain.sync.repository;
+
+import com.safework.api.domain.sync.model.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for managing SyncTombstone entities.
+ * Extends JpaRepository to provide standard CRUD operations.
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    /**
+     * Reads an organization's tombstones between two positions, like
+     * {@link SyncChangeRepository#findByOrganizationIdBetween}.
+     *
+     * @param organizationId The ID of the organization.
+     * @param afterId        The id of the last change the client has seen (0 to start from the beginning).
+     * @param beforeId       Exclusive upper bound; tombstones at or above it are not returned yet.
+     * @param pageable       The page size; any sort is ignored in favour of id order.
+     * @return A Slice of tombstones in id order.
+     */
+    @Query("select t from SyncTombstone t where t.organizationId = :organizationId "
+            + "and t.id > :afterId and t.id < :beforeId order by t.id")
+    Slice<SyncTombstone> findByOrganizationIdBetween(Long organizationId, Long afterId, Long beforeId, Pageable pageable);
+
+    /**
+     * Reads the id of an organization's newest tombstone, like {@link SyncChangeRepository#findMaxIdByOrganizationId}.
+     *
+     * @param organizationId The ID of the organization.
+     * @return The id, or empty if the organization has no tombstones.
+     */
+    @Query("select max(t.id) from SyncTombstone t where t.organizationId = :organizationId")
+    Optional<Long> findMaxIdByOrganizationId(Long organizationId);
+
+    /**
+     * Prunes an organization's tombstones up to and including a position.
+     *
+     * @return the number of tombstones removed
+     */
+    @Modifying
+    @Query("delete from SyncTombstone t where t.organizationId = :organizationId and t.id <= :upToId")
+    int deleteByOrganizationIdUpTo(Long organizationId, Long upToId);
+
+    /**
+     * Prunes the tombstones of every organization that has no tracked device, up to and including a position.
+     *
+     * @return the number of tombstones removed
+     */
+    @Modifying
+    @Query("delete from SyncTombstone t where t.id <= :upToId "
+            + "and t.organizationId not in (select d.organizationId from SyncCursor d)")
+    int deleteUntrackedUpTo(Long upToId);
+}
@@ -0,0 +1,97 @@
+package com.safework.api.domain.sync.service;
+
+import com.safework.api.domain.asset.event.AssetChangedEvent;
+import com.safework.api.domain.sync.model.SyncChange;
+import com.safework.api.domain.sync.model.SyncEntityType;
+import com.safework.api.domain.sync.model.SyncTombstone;
+import com.safework.api.domain.sync.repository.SyncChangeRepository;
+import com.safework.api.domain.sync.repository.SyncTombstoneRepository;
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.OptionalLong;
+
+/**
+ * Appends to the per-organization change log and tombstone store that feed GET /v1/sync/pull.
+ *
+ * Entries are written inside the transaction that makes the change, so the feed never mentions a change that
+ * rolled back and never misses one that committed. Asset creates and updates arrive as {@link AssetChangedEvent}s
+ * (which also covers the bulk import); deletions and other entity types are recorded by their services directly.
+ *
+ * Because every change appends an entry, the feed head doubles as a cheap version of an organization's data
+ * for tagging its listings (see {@link #settledHead}).
+ */
+@Component
+public class SyncChangeLog {
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final Duration settleWindow;
+
+    public SyncChangeLog(SyncChangeRepository syncChangeRepository, SyncTombstoneRepository syncTombstoneRepository,
+                         @Value("${safework.sync.pull.settle-window:5s}") Duration settleWindow) {
+        this.syncChangeRepository = syncChangeRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.settleWindow = settleWindow;
+    }
+
+    /**
+     * Records that a record was created or updated.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long organizationId, SyncEntityType entityType, Long entityId) {
+        SyncChange change = new SyncChange();
+        change.setOrganizationId(organizationId);
+        change.setEntityType(entityType);
+        change.setEntityId(entityId);
+        syncChangeRepository.save(change);
+    }
+
+    /**
+     * Records that a record was deleted.
+     *
+     * @param version the record's version when it was deleted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Long organizationId, SyncEntityType entityType, Long entityId, int version) {
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setOrganizationId(organizationId);
+        tombstone.setEntityType(entityType);
+        tombstone.setEntityId(entityId);
+        tombstone.setVersion(version);
+        syncTombstoneRepository.save(tombstone);
+    }
+
+    /**
+     * The id of the organization's newest change-log entry or tombstone, read from the ends of their
+     * (organization_id, id) indexes. Any change committed after it has settled gets a higher id, so it identifies
+     * the state of the organization's data without counting or scanning its rows.
+     *
+     * Empty while the newest entry is younger than the settle window, since a change with a lower id may still
+     * commit without moving the head, and when compaction has emptied the feed, since the head could then return
+     * to a value an earlier state already had.
+     */
+    public OptionalLong settledHead(Long organizationId) {
+        long head = Math.max(syncChangeRepository.findMaxIdByOrganizationId(organizationId).orElse(0L),
+                syncTombstoneRepository.findMaxIdByOrganizationId(organizationId).orElse(0L));
+        if (head == 0 || head >= TimeOrderedIdAllocator.lowestIdAt(Instant.now().minus(settleWindow))) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(head);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAssetChanged(AssetChangedEvent event) {
+        // Deletions carry no asset; AssetService tombstones them itself, with the deleted version
+        if (!event.isDeletion()) {
+            record(event.organizationId(), SyncEntityType.ASSET, event.assetId());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.safework.api.domain.sync.service;
+
+import com.safework.api.domain.sync.repository.SyncChangeRepository;
+import com.safework.api.domain.sync.repository.SyncCursorRepository;
+import com.safework.api.domain.sync.repository.SyncTombstoneRepository;
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the delta feed small by pruning change-log entries and tombstones that no active device still needs.
+ *
+ * Devices that have not pulled within the device TTL are forgotten first (they get a 410 and bootstrap again).
+ * Each remaining organization is then pruned up to the cursor of its slowest device; a device that is still
+ * bootstrapping is registered at the feed head it will pull from, so its entries are kept. Organizations with no
+ * tracked device keep one device TTL of history.
+ */
+@Component
+public class SyncCompactionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncCompactionJob.class);
+
+    private final SyncCursorRepository syncCursorRepository;
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final Duration deviceTtl;
+
+    public SyncCompactionJob(SyncCursorRepository syncCursorRepository,
+                             SyncChangeRepository syncChangeRepository,
+                             SyncTombstoneRepository syncTombstoneRepository,
+                             @Value("${safework.sync.device-ttl:30d}") Duration deviceTtl) {
+        this.syncCursorRepository = syncCursorRepository;
+        this.syncChangeRepository = syncChangeRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.deviceTtl = deviceTtl;
+    }
+
+    @Scheduled(initialDelayString = "${safework.sync.compaction.interval:PT1H}",
+            fixedDelayString = "${safework.sync.compaction.interval:PT1H}")
+    @Transactional
+    public void compact() {
+        int forgottenDevices = syncCursorRepository.deleteByLastPullAtBefore(LocalDateTime.now().minus(deviceTtl));
+
+        int prunedChanges = 0;
+        int prunedTombstones = 0;
+        for (SyncCursorRepository.OldestPosition oldest : syncCursorRepository.findOldestPositions()) {
+            prunedChanges += syncChangeRepository.deleteByOrganizationIdUpTo(oldest.getOrganizationId(), oldest.getPosition());
+            prunedTombstones += syncTombstoneRepository.deleteByOrganizationIdUpTo(oldest.getOrganizationId(), oldest.getPosition());
+        }
+        long retentionBound = TimeOrderedIdAllocator.lowestIdAt(Instant.now().minus(deviceTtl));
+        prunedChanges += syncChangeRepository.deleteUntrackedUpTo(retentionBound);
+        prunedTombstones += syncTombstoneRepository.deleteUntrackedUpTo(retentionBound);
+
+        log.info("Sync compaction removed {} changes and {} tombstones, forgot {} idle devices",
+                prunedChanges, prunedTombstones, forgottenDevices);
+    }
+}
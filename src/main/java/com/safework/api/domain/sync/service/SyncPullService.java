@@ -0,0 +1,235 @@
+package com.safework.api.domain.sync.service;
+
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.checklist.dto.ChecklistDto;
+import com.safework.api.domain.checklist.mapper.ChecklistMapper;
+import com.safework.api.domain.checklist.repository.ChecklistRepository;
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.inspection.mapper.InspectionMapper;
+import com.safework.api.domain.inspection.repository.InspectionRepository;
+import com.safework.api.domain.issue.dto.IssueDto;
+import com.safework.api.domain.issue.mapper.IssueMapper;
+import com.safework.api.domain.issue.repository.IssueRepository;
+import com.safework.api.domain.sync.dto.SyncBootstrapResponse;
+import com.safework.api.domain.sync.dto.SyncDeletion;
+import com.safework.api.domain.sync.dto.SyncPullResponse;
+import com.safework.api.domain.sync.model.SyncChange;
+import com.safework.api.domain.sync.model.SyncCursor;
+import com.safework.api.domain.sync.model.SyncEntityType;
+import com.safework.api.domain.sync.model.SyncTombstone;
+import com.safework.api.domain.sync.repository.SyncChangeRepository;
+import com.safework.api.domain.sync.repository.SyncCursorRepository;
+import com.safework.api.domain.sync.repository.SyncTombstoneRepository;
+import com.safework.api.domain.util.KeysetCursor;
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
+import com.safework.api.exception.GoneException;
+import com.safework.api.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves the delta feed: what changed in an organization since a client's cursor.
+ *
+ * The cursor is the id of the last change-log entry or tombstone the client has seen. A page of both is read from
+ * their (organization_id, id) indexes, collapsed to the latest entry per record, and the surviving records are loaded
+ * with one tenant-scoped query per entity type. Records deleted later than the page are skipped; their tombstone
+ * arrives on a following pull.
+ *
+ * Each pull also records the device's cursor, which is what lets the compaction job prune entries every active
+ * device has passed. A device that has been away longer than the device TTL, or rewinds its cursor, may have
+ * missed pruned tombstones and is told to bootstrap again (410 Gone).
+ *
+ * A new device bootstraps by registering at the feed head, then downloading the listings, then pulling from the
+ * head. Being registered before the download keeps every entry after the head from being pruned, so nothing
+ * that changes while the listings are read is missed.
+ *
+ * Entries younger than the settle window are held back. Their ids are assigned before their transaction commits,
+ * so a slow transaction could otherwise commit an entry behind a cursor that a client has already moved past.
+ */
+@Service
+@Transactional
+public class SyncPullService {
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncCursorRepository syncCursorRepository;
+    private final AssetRepository assetRepository;
+    private final ChecklistRepository checklistRepository;
+    private final InspectionRepository inspectionRepository;
+    private final IssueRepository issueRepository;
+    private final ChecklistMapper checklistMapper;
+    private final InspectionMapper inspectionMapper;
+    private final IssueMapper issueMapper;
+    private final Duration settleWindow;
+    private final Duration deviceTtl;
+
+    public SyncPullService(SyncChangeRepository syncChangeRepository,
+                           SyncTombstoneRepository syncTombstoneRepository,
+                           SyncCursorRepository syncCursorRepository,
+                           AssetRepository assetRepository,
+                           ChecklistRepository checklistRepository,
+                           InspectionRepository inspectionRepository,
+                           IssueRepository issueRepository,
+                           ChecklistMapper checklistMapper,
+                           InspectionMapper inspectionMapper,
+                           IssueMapper issueMapper,
+                           @Value("${safework.sync.pull.settle-window:5s}") Duration settleWindow,
+                           @Value("${safework.sync.device-ttl:30d}") Duration deviceTtl) {
+        this.syncChangeRepository = syncChangeRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.syncCursorRepository = syncCursorRepository;
+        this.assetRepository = assetRepository;
+        this.checklistRepository = checklistRepository;
+        this.inspectionRepository = inspectionRepository;
+        this.issueRepository = issueRepository;
+        this.checklistMapper = checklistMapper;
+        this.inspectionMapper = inspectionMapper;
+        this.issueMapper = issueMapper;
+        this.settleWindow = settleWindow;
+        this.deviceTtl = deviceTtl;
+    }
+
+    /**
+     * @param deviceId identifies the pulling device within the organization
+     * @param since the nextCursor of the previous pull, or null/blank to read the feed from the beginning
+     * @param limit the most change-log entries and tombstones to consume in this pull
+     * @throws GoneException if entries after the cursor may already have been pruned
+     */
+    public SyncPullResponse pull(AuthenticatedUser currentUser, String deviceId, String since, int limit) {
+        Long organizationId = currentUser.organizationId();
+        long afterId = KeysetCursor.decode(since);
+        trackCursor(currentUser, deviceId, afterId);
+
+        long beforeId = settledBound();
+        PageRequest page = PageRequest.ofSize(limit);
+        Slice<SyncChange> changes = syncChangeRepository.findByOrganizationIdBetween(organizationId, afterId, beforeId, page);
+        Slice<SyncTombstone> tombstones = syncTombstoneRepository.findByOrganizationIdBetween(organizationId, afterId, beforeId, page);
+
+        // Both are on one id line: merge them and keep the first "limit" entries
+        List<FeedEntry> entries = new ArrayList<>(changes.getNumberOfElements() + tombstones.getNumberOfElements());
+        changes.forEach(change -> entries.add(new FeedEntry(change.getId(), change.getEntityType(), change.getEntityId(), null)));
+        tombstones.forEach(tombstone -> entries.add(new FeedEntry(tombstone.getId(), tombstone.getEntityType(), tombstone.getEntityId(), tombstone)));
+        entries.sort(Comparator.comparingLong(FeedEntry::position));
+        boolean hasMore = changes.hasNext() || tombstones.hasNext() || entries.size() > limit;
+        List<FeedEntry> consumed = entries.subList(0, Math.min(limit, entries.size()));
+
+        // Latest entry per record; a record created and then deleted within the page is just a deletion
+        Map<SyncEntityType, Map<Long, FeedEntry>> latest = new EnumMap<>(SyncEntityType.class);
+        long lastId = afterId;
+        for (FeedEntry entry : consumed) {
+            latest.computeIfAbsent(entry.entityType(), type -> new LinkedHashMap<>()).put(entry.entityId(), entry);
+            lastId = entry.position();
+        }
+
+        List<SyncDeletion> deleted = new ArrayList<>();
+        Map<SyncEntityType, Set<Long>> upserted = new EnumMap<>(SyncEntityType.class);
+        latest.forEach((type, records) -> records.forEach((id, entry) -> {
+            if (entry.tombstone() != null) {
+                deleted.add(new SyncDeletion(type.name(), id, entry.tombstone().getVersion(), entry.tombstone().getDeletedAt()));
+            } else {
+                upserted.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(id);
+            }
+        }));
+
+        // An empty cursor, like an absent one, means "from the beginning"
+        String nextCursor = lastId == 0L ? "" : KeysetCursor.encode(lastId);
+        return new SyncPullResponse(
+                loadAssets(organizationId, upserted.get(SyncEntityType.ASSET)),
+                loadChecklists(organizationId, upserted.get(SyncEntityType.CHECKLIST)),
+                loadInspections(organizationId, upserted.get(SyncEntityType.INSPECTION)),
+                loadIssues(organizationId, upserted.get(SyncEntityType.ISSUE)),
+                deleted,
+                hasMore,
+                nextCursor);
+    }
+
+    /**
+     * Registers a device at the current feed head, so the entries after it are kept until the device pulls them.
+     * Every entry up to the head has settled, so a download of the listings started afterwards includes it.
+     *
+     * @return the cursor for the device's first pull
+     */
+    public SyncBootstrapResponse bootstrap(AuthenticatedUser currentUser, String deviceId) {
+        long head = settledBound() - 1;
+        saveCursor(currentUser, deviceId,
+                syncCursorRepository.findByOrganizationIdAndDeviceId(currentUser.organizationId(), deviceId).orElse(null),
+                head, LocalDateTime.now());
+        return new SyncBootstrapResponse(head <= 0L ? "" : KeysetCursor.encode(head));
+    }
+
+    /**
+     * Entries below this id are older than the settle window, so their transactions have committed.
+     */
+    private long settledBound() {
+        return TimeOrderedIdAllocator.lowestIdAt(Instant.now().minus(settleWindow));
+    }
+
+    /**
+     * Checks that nothing after the device's cursor can have been pruned, then records the cursor as its position.
+     */
+    private void trackCursor(AuthenticatedUser currentUser, String deviceId, long afterId) {
+        LocalDateTime now = LocalDateTime.now();
+        SyncCursor cursor = syncCursorRepository.findByOrganizationIdAndDeviceId(currentUser.organizationId(), deviceId)
+                .orElse(null);
+        boolean expired = cursor == null || cursor.getLastPullAt().isBefore(now.minus(deviceTtl));
+        if (afterId != 0L && (expired || afterId < cursor.getPosition())) {
+            throw new GoneException("Sync cursor has expired; bootstrap again and download a fresh copy.");
+        }
+        saveCursor(currentUser, deviceId, cursor, afterId, now);
+    }
+
+    private void saveCursor(AuthenticatedUser currentUser, String deviceId, SyncCursor cursor, long position, LocalDateTime now) {
+        if (cursor == null) {
+            cursor = new SyncCursor();
+            cursor.setOrganizationId(currentUser.organizationId());
+            cursor.setDeviceId(deviceId);
+        }
+        cursor.setUserId(currentUser.id());
+        cursor.setPosition(position);
+        cursor.setLastPullAt(now);
+        syncCursorRepository.save(cursor);
+    }
+
+    private List<AssetDto> loadAssets(Long organizationId, Set<Long> ids) {
+        return ids == null ? List.of() : assetRepository.findDtosByOrganizationIdAndIdIn(organizationId, ids);
+    }
+
+    private List<ChecklistDto> loadChecklists(Long organizationId, Set<Long> ids) {
+        return ids == null ? List.of() : checklistRepository.findAllByOrganizationIdAndIdIn(organizationId, ids).stream()
+                .map(checklistMapper::toDto)
+                .toList();
+    }
+
+    private List<InspectionDto> loadInspections(Long organizationId, Set<Long> ids) {
+        return ids == null ? List.of() : inspectionRepository.findAllByOrganizationIdAndIdIn(organizationId, ids).stream()
+                .map(inspectionMapper::toDto)
+                .toList();
+    }
+
+    private List<IssueDto> loadIssues(Long organizationId, Set<Long> ids) {
+        return ids == null ? List.of() : issueRepository.findAllByOrganizationIdAndIdIn(organizationId, ids).stream()
+                .map(issueMapper::toDto)
+                .toList();
+    }
+
+    /**
+     * A change-log entry or, when tombstone is set, a deletion.
+     */
+    private record FeedEntry(long position, SyncEntityType entityType, Long entityId, SyncTombstone tombstone) {}
+}
@@ -0,0 +1,156 @@
+package com.safework.api.domain.sync.service;
+
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.service.AssetService;
+import com.safework.api.domain.inspection.service.InspectionService;
+import com.safework.api.domain.issue.dto.CreateIssueRequest;
+import com.safework.api.domain.issue.service.IssueService;
+import com.safework.api.domain.sync.dto.AssetMergeMutation;
+import com.safework.api.domain.sync.dto.AssetUpdateMutation;
+import com.safework.api.domain.sync.dto.InspectionCreateMutation;
+import com.safework.api.domain.sync.dto.IssueCreateMutation;
+import com.safework.api.domain.sync.dto.SyncMutation;
+import com.safework.api.domain.sync.dto.SyncMutationResult;
+import com.safework.api.domain.sync.dto.SyncPushRequest;
+import com.safework.api.domain.sync.dto.SyncPushResponse;
+import com.safework.api.domain.user.model.UserRole;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.exception.ConflictException;
+import com.safework.api.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies the changes an offline client queued, in order, in as few transactions as possible.
+ *
+ * Mutations are applied in chunks, each chunk in a single transaction, through the same domain services as the
+ * individual endpoints. If anything in a chunk fails (typically a version conflict), that chunk is rolled back and
+ * replayed one mutation per transaction, so only the failing mutations are reported and the rest still apply.
+ */
+@Service
+public class SyncPushService {
+
+    private final AssetService assetService;
+    private final InspectionService inspectionService;
+    private final IssueService issueService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxMutations;
+
+    public SyncPushService(AssetService assetService,
+                           InspectionService inspectionService,
+                           IssueService issueService,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${safework.sync.push.chunk-size:50}") int chunkSize,
+                           @Value("${safework.sync.push.max-mutations:500}") int maxMutations) {
+        this.assetService = assetService;
+        this.inspectionService = inspectionService;
+        this.issueService = issueService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxMutations = maxMutations;
+    }
+
+    public SyncPushResponse push(SyncPushRequest request, AuthenticatedUser currentUser) {
+        List<SyncMutation> mutations = request.mutations();
+        if (mutations.size() > maxMutations) {
+            throw new BadRequestException("A push may carry at most " + maxMutations + " mutations, got " + mutations.size());
+        }
+
+        SyncMutationResult[] results = new SyncMutationResult[mutations.size()];
+        // Server ids of inspections created by this push, for issues that refer to them by clientMutationId
+        Map<String, Long> inspectionIds = new HashMap<>();
+        for (int start = 0; start < mutations.size(); start += chunkSize) {
+            applyChunk(mutations, start, Math.min(start + chunkSize, mutations.size()), results, inspectionIds, currentUser);
+        }
+        return new SyncPushResponse(List.of(results));
+    }
+
+    private void applyChunk(List<SyncMutation> mutations, int start, int end, SyncMutationResult[] results,
+                            Map<String, Long> inspectionIds, AuthenticatedUser currentUser) {
+        Map<String, Long> committedInspectionIds = new HashMap<>(inspectionIds);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    results[i] = apply(mutations.get(i), inspectionIds, currentUser);
+                    recordInspection(mutations.get(i), results[i], inspectionIds);
+                }
+            });
+        } catch (RuntimeException chunkFailure) {
+            // Nothing from this chunk was committed, including the inspections it created
+            inspectionIds.clear();
+            inspectionIds.putAll(committedInspectionIds);
+            for (int i = start; i < end; i++) {
+                SyncMutation mutation = mutations.get(i);
+                try {
+                    results[i] = transactionTemplate.execute(status -> apply(mutation, inspectionIds, currentUser));
+                    recordInspection(mutation, results[i], inspectionIds);
+                } catch (RuntimeException e) {
+                    results[i] = failureResult(mutation, e, currentUser);
+                }
+            }
+        }
+    }
+
+    private SyncMutationResult apply(SyncMutation mutation, Map<String, Long> inspectionIds, AuthenticatedUser currentUser) {
+        if (mutation instanceof AssetUpdateMutation update) {
+            // Same rule as PUT /v1/assets/{id}
+            if (currentUser.role() != UserRole.ADMIN) {
+                throw new AccessDeniedException("Only administrators can update assets.");
+            }
+            AssetDto updated = assetService.updateAsset(update.assetId(), update.changes(), currentUser);
+            return SyncMutationResult.applied(update.clientMutationId(), updated.id(), updated);
+        }
+        if (mutation instanceof AssetMergeMutation merge) {
+            // Same rule as PATCH /v1/assets/{id}
+            if (currentUser.role() != UserRole.ADMIN) {
+                throw new AccessDeniedException("Only administrators can update assets.");
+            }
+            AssetDto merged = assetService.mergeAsset(merge.assetId(), merge.changes(), currentUser);
+            return SyncMutationResult.applied(merge.clientMutationId(), merged.id(), merged);
+        }
+        if (mutation instanceof InspectionCreateMutation create) {
+            return SyncMutationResult.applied(create.clientMutationId(),
+                    inspectionService.createInspection(create.inspection(), currentUser).id(), null);
+        }
+        IssueCreateMutation create = (IssueCreateMutation) mutation;
+        return SyncMutationResult.applied(create.clientMutationId(),
+                issueService.createIssue(resolveInspection(create, inspectionIds), currentUser).id(), null);
+    }
+
+    private static CreateIssueRequest resolveInspection(IssueCreateMutation create, Map<String, Long> inspectionIds) {
+        CreateIssueRequest issue = create.issue();
+        if (create.inspectionMutationId() == null) {
+            return issue;
+        }
+        Long inspectionId = inspectionIds.get(create.inspectionMutationId());
+        if (inspectionId == null) {
+            throw new BadRequestException("No inspection was created by mutation " + create.inspectionMutationId() + " in this push");
+        }
+        return new CreateIssueRequest(issue.assetId(), inspectionId, issue.description(), issue.priority(), issue.photoUrl());
+    }
+
+    private static void recordInspection(SyncMutation mutation, SyncMutationResult result, Map<String, Long> inspectionIds) {
+        if (mutation instanceof InspectionCreateMutation && SyncMutationResult.APPLIED.equals(result.status())) {
+            inspectionIds.put(mutation.clientMutationId(), result.entityId());
+        }
+    }
+
+    private SyncMutationResult failureResult(SyncMutation mutation, RuntimeException e, AuthenticatedUser currentUser) {
+        Long assetId = mutation instanceof AssetUpdateMutation update ? update.assetId()
+                : mutation instanceof AssetMergeMutation merge ? merge.assetId() : null;
+        if (assetId != null && (e instanceof ConflictException || e instanceof OptimisticLockingFailureException)) {
+            // Hand back the server copy so the client can merge or discard its edit
+            AssetDto serverCopy = assetService.findAssetById(assetId, currentUser);
+            return SyncMutationResult.conflict(mutation.clientMutationId(), serverCopy, e.getMessage());
+        }
+        return SyncMutationResult.rejected(mutation.clientMutationId(), e.getMessage());
+    }
+}
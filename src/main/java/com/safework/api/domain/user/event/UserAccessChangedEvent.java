@@ -0,0 +1,13 @@
+package com.safework.api.domain.user.event;
+
+/**
+ * Published when a saved user's email, role or organization differs from the values it was loaded with.
+ * Anything that caches a user's identity (e.g. the principal cache) must drop both emails,
+ * and stateless tokens issued with a lower token version must no longer be trusted.
+ */
+public record UserAccessChangedEvent(
+        Long userId,
+        String previousEmail,
+        String email,
+        int tokenVersion
+) {}
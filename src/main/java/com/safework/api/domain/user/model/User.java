@@ -1,12 +1,21 @@
 package com.safework.api.domain.user.model;
 import com.safework.api.domain.department.model.Department;
 import com.safework.api.domain.organization.model.Organization;
+import com.safework.api.domain.user.event.UserAccessChangedEvent;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 @Data
 @Entity
@@ -37,6 +46,9 @@ public class User {
     @Column(nullable = false)
     private UserRole role;
 
+    @Column(nullable = false)
+    private int tokenVersion; // Bumped on every access change; stateless tokens carrying an older value are rejected
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -44,4 +56,111 @@ public class User {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    // --- Access snapshots (not persisted) ---
+    // "loaded" is captured on load and after each save through UserRepository, so a save can tell whether cached
+    // principals are stale. "flushed" is what the row holds as of the last load or flush; tokenVersion is bumped
+    // against it when a flush writes changed access.
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String loadedEmail;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient UserRole loadedRole;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Long loadedOrganizationId;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String flushedEmail;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient UserRole flushedRole;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Long flushedOrganizationId;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient int flushedTokenVersion;
+
+    // --- Lifecycle Hooks ---
+
+    @PostLoad
+    private void captureSnapshots() {
+        captureAccessSnapshot();
+        captureFlushedAccess();
+    }
+
+    @PostPersist
+    @PostUpdate
+    private void captureFlushedAccess() {
+        this.flushedEmail = email;
+        this.flushedRole = role;
+        this.flushedOrganizationId = organizationId();
+        this.flushedTokenVersion = tokenVersion;
+    }
+
+    /**
+     * Revokes stateless tokens issued under the old access. Runs on the managed instance right before its row is
+     * written, so the bump is flushed with the change even when a detached copy was merged.
+     */
+    @PreUpdate
+    private void bumpTokenVersionOnAccessChange() {
+        if (accessDiffersFromFlushed()) {
+            tokenVersion = flushedTokenVersion + 1;
+        }
+    }
+
+    private void captureAccessSnapshot() {
+        this.loadedEmail = email;
+        this.loadedRole = role;
+        this.loadedOrganizationId = organizationId();
+    }
+
+    private boolean accessDiffersFromFlushed() {
+        return flushedEmail != null && (!Objects.equals(flushedEmail, email)
+                || flushedRole != role
+                || !Objects.equals(flushedOrganizationId, organizationId()));
+    }
+
+    private Long organizationId() {
+        return organization != null ? organization.getId() : null;
+    }
+
+    // --- Domain Events (published by Spring Data on save) ---
+
+    @DomainEvents
+    Collection<Object> accessChangedEvents() {
+        if (loadedEmail == null) {
+            return List.of(); // New user, nothing can be cached for it yet
+        }
+        boolean changed = !Objects.equals(loadedEmail, email)
+                || loadedRole != role
+                || !Objects.equals(loadedOrganizationId, organizationId());
+        if (!changed) {
+            return List.of();
+        }
+        // The version bumpTokenVersionOnAccessChange writes at the next flush, or has already written
+        int revokedBelow = accessDiffersFromFlushed() ? flushedTokenVersion + 1 : tokenVersion;
+        return List.of(new UserAccessChangedEvent(id, loadedEmail, email, revokedBelow));
+    }
+
+    @AfterDomainEventPublication
+    void clearAccessSnapshot() {
+        captureAccessSnapshot();
+    }
+}
@@ -4,8 +4,12 @@ import com.safework.api.domain.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -38,4 +42,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if a user with the email exists, false otherwise.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Lists the current token version of every user whose access has changed at least once.
+     * Used to seed the stateless-token revocation check at startup without loading User entities.
+     *
+     * @return id and token version pairs for users with a non-zero token version.
+     */
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion FROM User u WHERE u.tokenVersion > 0")
+    List<TokenVersionView> findChangedTokenVersions();
+
+    /**
+     * Replaces a user's password hash, but only if it still holds the hash that was verified.
+     * Used for background rehashing so a concurrent password change is never overwritten.
+     *
+     * @param id          The ID of the user.
+     * @param currentHash The hash the new one was derived from.
+     * @param newHash     The upgraded hash.
+     * @return the number of rows updated (0 if the password changed in the meantime).
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :currentHash")
+    int updatePasswordHash(Long id, String currentHash, String newHash);
+
+    interface TokenVersionView {
+        Long getId();
+        int getTokenVersion();
+    }
 }
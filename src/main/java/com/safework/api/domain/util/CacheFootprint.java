@@ -0,0 +1,29 @@
+package com.safework.api.domain.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Exports the estimated heap footprint of a weight-bounded Caffeine cache as a Micrometer gauge.
+ * The cache's weigher must estimate entry sizes in bytes; the gauge reports their sum.
+ */
+public final class CacheFootprint {
+
+    private CacheFootprint() {
+    }
+
+    public static void monitor(MeterRegistry meterRegistry, Cache<?, ?> cache, String gaugeName, String description) {
+        Gauge.builder(gaugeName, cache, CacheFootprint::weightedSize)
+                .description(description)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the total weight of the cache's entries, or 0 if it is not bounded by weight
+     */
+    public static double weightedSize(Cache<?, ?> cache) {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+}
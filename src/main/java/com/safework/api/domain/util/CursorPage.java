@@ -0,0 +1,16 @@
+package com.safework.api.domain.util;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * Unlike Spring's Page there is no total count; hasNext comes from fetching one row past the page.
+ *
+ * @param nextCursor pass as "after" to fetch the following page; null on the last page
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {}
@@ -0,0 +1,26 @@
+package com.safework.api.domain.util;
+
+/**
+ * Builds weak ETags for conditional GETs from data the database already tracks, so a request can be answered
+ * with 304 Not Modified after a query or two on an index instead of materialising the response.
+ *
+ * Single resources are tagged by (id, @Version); organization listings by the settled head of the organization's
+ * sync feed, which moves on every create, update and delete (see SyncChangeLog#settledHead). Tags are weak
+ * because they identify the state of the data, not the exact bytes of its JSON.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String forVersion(String resource, Long id, int version) {
+        return "W/\"" + resource + "-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * @param head the id of the organization's newest settled sync feed entry
+     */
+    public static String forFeedHead(String resource, long head) {
+        return "W/\"" + resource + "-h" + Long.toString(head, 36) + "\"";
+    }
+}
@@ -1,57 +1,327 @@
 package com.safework.api.domain.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.PrePersist;
-import jakarta.persistence.PreUpdate;
-
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
 
 /**
  * Utility class for JSON validation in entity lifecycle hooks.
  * Ensures JSON data is valid before persisting to database.
+ *
+ * Validation walks the data once, without serializing it: only JSON values (null, strings, booleans, finite
+ * numbers, maps with non-null keys, collections and arrays) are accepted, and the nesting depth, total number of
+ * object keys and serialized size are checked against {@link Limits}. The size is computed as the length of the
+ * UTF-8 JSON Jackson would write. Cyclic data fails the depth check.
+ *
+ * JSON data is copied structurally, without a round trip through a JSON string: {@link #deepCopy} for a copy the
+ * caller may change, {@link #immutableCopy} for a read-only snapshot that shares already-frozen subtrees.
  */
 public class JsonValidator {
-    
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    
+
+    /**
+     * Upper bounds for one JSON column value.
+     *
+     * @param maxDepth nesting levels of objects and arrays; the top-level object is level 1
+     * @param maxKeys  object keys, counted across all nesting levels
+     * @param maxBytes size of the value serialized as UTF-8 JSON
+     */
+    public record Limits(int maxDepth, int maxKeys, long maxBytes) {
+        public static final Limits DEFAULT = new Limits(32, 10_000, 1024 * 1024);
+    }
+
+    private static volatile Limits limits = Limits.DEFAULT;
+
+    /**
+     * Sets the limits used by {@link #validateJson(Map, String)}; called once at startup from configuration.
+     */
+    public static void configure(Limits newLimits) {
+        limits = newLimits;
+    }
+
     /**
-     * Validates that a Map can be serialized to valid JSON.
+     * Validates that a Map can be serialized to valid JSON within the configured limits.
      * @param jsonData the Map to validate
      * @param fieldName name of the field for error messages
-     * @throws IllegalArgumentException if the data cannot be serialized to JSON
+     * @throws IllegalArgumentException if the data is not JSON or exceeds a limit
      */
     public static void validateJson(Map<String, Object> jsonData, String fieldName) {
+        validateJson(jsonData, fieldName, limits);
+    }
+
+    /**
+     * Validates that a Map can be serialized to valid JSON within the given limits.
+     * @throws IllegalArgumentException if the data is not JSON or exceeds a limit
+     */
+    public static void validateJson(Map<String, Object> jsonData, String fieldName, Limits limits) {
         if (jsonData == null) {
             return; // Null is allowed for optional fields
         }
-        
-        try {
-            // Attempt to serialize to JSON to validate structure
-            objectMapper.writeValueAsString(jsonData);
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException(
-                String.format("Invalid JSON data in field '%s': %s", fieldName, e.getMessage()), e
-            );
-        }
+        new Walk(fieldName, limits).value(jsonData, 0);
     }
-    
+
     /**
      * Safely clones a JSON Map to prevent external modification.
+     * Maps, collections and arrays are copied into new LinkedHashMaps and ArrayLists; strings, numbers, booleans
+     * and other immutable values are shared rather than copied.
      * @param source the Map to clone
-     * @return a deep copy of the Map
+     * @return a deep copy of the Map, mutable at every level
+     * @throws IllegalStateException if the data contains a value that is not JSON
      */
     @SuppressWarnings("unchecked")
     public static Map<String, Object> deepCopy(Map<String, Object> source) {
         if (source == null) {
             return null;
         }
-        
-        try {
-            String json = objectMapper.writeValueAsString(source);
-            return objectMapper.readValue(json, Map.class);
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to copy JSON data", e);
+        return (Map<String, Object>) mutableCopyOf(source);
+    }
+
+    /**
+     * Returns a read-only snapshot of a JSON Map. Subtrees that are already snapshots are shared instead of copied,
+     * so taking a snapshot of a snapshot, or of data assembled from snapshots, is free. Callers that need to change
+     * the data take a {@link #deepCopy} of the snapshot at that point.
+     * @param source the Map to snapshot
+     * @return an unmodifiable deep copy of the Map, or the Map itself if it is already one
+     * @throws IllegalStateException if the data contains a value that is not JSON
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> immutableCopy(Map<String, Object> source) {
+        if (source == null) {
+            return null;
+        }
+        return (Map<String, Object>) immutableCopyOf(source);
+    }
+
+    private static Object mutableCopyOf(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+            map.forEach((key, item) -> copy.put(key.toString(), mutableCopyOf(item)));
+            return copy;
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> copy = new ArrayList<>(collection.size());
+            for (Object item : collection) {
+                copy.add(mutableCopyOf(item));
+            }
+            return copy;
+        }
+        if (value instanceof Object[] array) {
+            List<Object> copy = new ArrayList<>(array.length);
+            for (Object item : array) {
+                copy.add(mutableCopyOf(item));
+            }
+            return copy;
+        }
+        return immutableLeaf(value);
+    }
+
+    private static Object immutableCopyOf(Object value) {
+        if (value instanceof FrozenMap || value instanceof FrozenList) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+            map.forEach((key, item) -> copy.put(key.toString(), immutableCopyOf(item)));
+            return new FrozenMap(copy);
+        }
+        if (value instanceof Collection<?> collection) {
+            Object[] copy = new Object[collection.size()];
+            int i = 0;
+            for (Object item : collection) {
+                copy[i++] = immutableCopyOf(item);
+            }
+            return new FrozenList(copy);
+        }
+        if (value instanceof Object[] array) {
+            Object[] copy = new Object[array.length];
+            for (int i = 0; i < array.length; i++) {
+                copy[i] = immutableCopyOf(array[i]);
+            }
+            return new FrozenList(copy);
+        }
+        return immutableLeaf(value);
+    }
+
+    private static Object immutableLeaf(Object value) {
+        // The value types Jackson produces for JSON; all immutable, so they are shared
+        if (value == null || value instanceof String || value instanceof Boolean
+                || value instanceof Integer || value instanceof Long || value instanceof Double
+                || value instanceof Short || value instanceof Byte || value instanceof Float
+                || value instanceof BigInteger || value instanceof BigDecimal
+                || value instanceof Character || value instanceof Enum<?>) {
+            return value;
+        }
+        throw new IllegalStateException("Failed to copy JSON data: unsupported value of type " + value.getClass().getName());
+    }
+
+    /**
+     * Read-only map produced by {@link #immutableCopy}; the marker type lets later snapshots share it.
+     */
+    private static final class FrozenMap extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> entries;
+
+        FrozenMap(Map<String, Object> entries) {
+            this.entries = Collections.unmodifiableMap(entries);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entries.entrySet();
+        }
+
+        @Override
+        public Object get(Object key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Read-only list produced by {@link #immutableCopy}; the marker type lets later snapshots share it.
+     */
+    private static final class FrozenList extends AbstractList<Object> implements RandomAccess {
+
+        private final Object[] items;
+
+        FrozenList(Object[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public Object get(int index) {
+            return items[index];
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+    }
+
+    /**
+     * One validation pass, accumulating the key count and serialized size.
+     */
+    private static final class Walk {
+
+        private final String fieldName;
+        private final Limits limits;
+        private int keys;
+        private long bytes;
+
+        Walk(String fieldName, Limits limits) {
+            this.fieldName = fieldName;
+            this.limits = limits;
+        }
+
+        void value(Object value, int depth) {
+            if (value == null) {
+                bytes += 4;
+            } else if (value instanceof String string) {
+                bytes += stringBytes(string);
+            } else if (value instanceof Boolean bool) {
+                bytes += bool ? 4 : 5;
+            } else if (value instanceof Number number) {
+                bytes += numberBytes(number);
+            } else if (value instanceof Map<?, ?> map) {
+                enter(depth);
+                bytes += 2 + Math.max(0, map.size() - 1); // Braces and commas
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (entry.getKey() == null) {
+                        throw invalid("null object key");
+                    }
+                    if (++keys > limits.maxKeys()) {
+                        throw invalid("more than " + limits.maxKeys() + " object keys");
+                    }
+                    bytes += stringBytes(entry.getKey().toString()) + 1; // Key and colon
+                    value(entry.getValue(), depth + 1);
+                }
+            } else if (value instanceof Collection<?> collection) {
+                enter(depth);
+                bytes += 2 + Math.max(0, collection.size() - 1); // Brackets and commas
+                for (Object item : collection) {
+                    value(item, depth + 1);
+                }
+            } else if (value instanceof Object[] array) {
+                enter(depth);
+                bytes += 2 + Math.max(0, array.length - 1);
+                for (Object item : array) {
+                    value(item, depth + 1);
+                }
+            } else if (value instanceof Character || value instanceof Enum<?>) {
+                bytes += stringBytes(value.toString());
+            } else {
+                throw invalid("unsupported value of type " + value.getClass().getName());
+            }
+            if (bytes > limits.maxBytes()) {
+                throw invalid("larger than " + limits.maxBytes() + " bytes");
+            }
+        }
+
+        private void enter(int depth) {
+            if (depth >= limits.maxDepth()) {
+                throw invalid("nested deeper than " + limits.maxDepth() + " levels");
+            }
+        }
+
+        private long numberBytes(Number number) {
+            if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+                long n = number.longValue();
+                long digits = n < 0 ? 2 : 1;
+                // Negating Long.MIN_VALUE overflows, so count on the negative side
+                for (long rest = n < 0 ? n : -n; rest <= -10; rest /= 10) {
+                    digits++;
+                }
+                return digits;
+            }
+            if ((number instanceof Double d && !Double.isFinite(d)) || (number instanceof Float f && !Float.isFinite(f))) {
+                throw invalid("non-finite number " + number);
+            }
+            return number.toString().length();
+        }
+
+        private static long stringBytes(String string) {
+            long length = 2; // Quotes
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c < 0x80) {
+                    if (c == '"' || c == '\\' || c == '\b' || c == '\f' || c == '\n' || c == '\r' || c == '\t') {
+                        length += 2;
+                    } else if (c < 0x20) {
+                        length += 6; // Six-character unicode escape
+                    } else {
+                        length += 1;
+                    }
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isSurrogate(c)) {
+                    length += 2; // A surrogate pair is 4 bytes
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+
+        private IllegalArgumentException invalid(String reason) {
+            return new IllegalArgumentException(String.format("Invalid JSON data in field '%s': %s", fieldName, reason));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.safework.api.domain.util;
+
+import com.safework.api.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque "after" cursors used by keyset (seek) pagination.
+ * A cursor carries the sort key and id of the last row a client has seen; listings are ordered by id,
+ * so the two coincide and only the id is stored. The version prefix leaves room for other sort keys.
+ */
+public final class KeysetCursor {
+
+    private static final String PREFIX = "v1:";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor the cursor from a previous page, or null/blank for the first page
+     * @return the id to seek after (0 for the first page)
+     * @throws BadRequestException if the cursor was not produced by {@link #encode(long)}
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(PREFIX)) {
+                return Long.parseLong(decoded.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the error below (covers bad Base64 and NumberFormatException)
+        }
+        throw new BadRequestException("Invalid pagination cursor: " + cursor);
+    }
+}
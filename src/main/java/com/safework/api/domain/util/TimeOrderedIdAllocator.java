@@ -0,0 +1,87 @@
+package com.safework.api.domain.util;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out time-ordered 53-bit ids in the JVM, so inserts need no database round-trip to learn their key
+ * and Hibernate can batch them. 53 bits keeps every id exactly representable as a JavaScript number.
+ *
+ * Layout: 41 bits of milliseconds since {@link #EPOCH} (about 69 years), 4 bits of node id, 8 bits of sequence.
+ * Each node can allocate 256 ids per millisecond; beyond that the caller waits for the next millisecond.
+ * If the clock steps backwards, allocation continues from the last timestamp used, so ids never repeat or decrease.
+ *
+ * Ids allocated this way are far above any value an identity column will have reached, so existing rows
+ * keep their ids and the two ranges never collide.
+ */
+public final class TimeOrderedIdAllocator {
+
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static final Map<Integer, TimeOrderedIdAllocator> ALLOCATORS = new ConcurrentHashMap<>();
+
+    private final long epochMillis = EPOCH.toEpochMilli();
+    private final int nodeId;
+    private long lastTimestamp = -1L;
+    private int sequence;
+
+    private TimeOrderedIdAllocator(int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Returns the JVM-wide allocator for a node. Everything in one process (Hibernate and JDBC writers alike)
+     * must share it, and every running instance must use a different node id.
+     */
+    public static TimeOrderedIdAllocator forNode(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ", was " + nodeId);
+        }
+        return ALLOCATORS.computeIfAbsent(nodeId, TimeOrderedIdAllocator::new);
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis() - epochMillis, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            if (sequence == MAX_SEQUENCE) {
+                timestamp = waitForNextMillisecond(timestamp);
+                sequence = 0;
+            } else {
+                sequence++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * @return the time at which an id from this allocator was issued (to the millisecond)
+     */
+    public static Instant timestampOf(long id) {
+        return EPOCH.plusMillis(id >>> (NODE_BITS + SEQUENCE_BITS));
+    }
+
+    /**
+     * @return the smallest id any node can issue at the given time, for turning a point in time into an id bound
+     */
+    public static long lowestIdAt(Instant instant) {
+        return Math.max(0L, instant.toEpochMilli() - EPOCH.toEpochMilli()) << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    private long waitForNextMillisecond(long timestamp) {
+        long next;
+        do {
+            Thread.onSpinWait();
+            next = System.currentTimeMillis() - epochMillis;
+        } while (next <= timestamp);
+        return next;
+    }
+}
@@ -0,0 +1,15 @@
+package com.safework.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a client refers to state the server no longer keeps (e.g., an expired sync cursor).
+ * Results in an HTTP 410 Gone response.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class GoneException extends RuntimeException {
+    public GoneException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,35 @@
+package com.safework.api.security;
+
+import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.user.model.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the authenticated caller.
+ * This is the principal placed in the SecurityContext for every JWT-authenticated request,
+ * so it must never hold a reference to a managed JPA entity.
+ */
+public record AuthenticatedUser(
+        Long id,
+        String email,
+        Long organizationId,
+        UserRole role
+) {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getOrganization() != null ? user.getOrganization().getId() : null,
+                user.getRole()
+        );
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.safework.api.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the highest BCrypt cost whose verification fits a latency budget on the current host.
+ * Each extra cost step doubles the work, so one cost is measured and the rest are extrapolated.
+ */
+public final class BcryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BcryptCostCalibrator.class);
+
+    private static final int PROBE_COST = 10;
+    private static final int PROBE_ROUNDS = 3;
+
+    private BcryptCostCalibrator() {
+    }
+
+    /**
+     * @param targetMillis the verification latency budget for a single hash
+     * @param minCost the floor, used even if the host is slower than the budget allows
+     * @param maxCost the ceiling, used even if the host could afford more
+     * @return the chosen cost, between minCost and maxCost
+     */
+    public static int calibrate(long targetMillis, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_COST);
+        String hash = probe.encode("calibration-probe");
+        probe.matches("calibration-probe", hash); // Warm-up
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.matches("calibration-probe", hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double probeMillis = best / 1_000_000.0;
+
+        int cost = minCost;
+        while (cost < maxCost && probeMillis * Math.pow(2, cost + 1 - PROBE_COST) <= targetMillis) {
+            cost++;
+        }
+        log.info("BCrypt cost {} selected ({} ms per verification at cost {}, target {} ms)",
+                cost, String.format("%.1f", probeMillis), PROBE_COST, targetMillis);
+        return cost;
+    }
+}
@@ -1,66 +0,0 @@
-package com.safework.api.security;
-
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.stereotype.Component;
-
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
-
-@Component
-public class JwtService {
-    
-    @Value("${safework.jwt.expiration-ms:86400000}")
-    private long expirationTime;
-    
-    @Value("${safework.jwt.secret}")
-    private String jwtSecret;
-    
-    private static final String PREFIX = "Bearer ";
-
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-    
-    // Generate JWT token
-    public String getToken(String username) {
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
-    }
-
-    // Get a token from request Authorization header,
-    // parse a token and get username
-    public String getAuthUser(HttpServletRequest request) {
-        String token = request.getHeader(HttpHeaders.AUTHORIZATION);
-
-        if (token != null && token.startsWith(PREFIX)) {
-            try {
-                String user = Jwts.parserBuilder()
-                        .setSigningKey(getSigningKey())
-                        .build()
-                        .parseClaimsJws(token.substring(PREFIX.length()))
-                        .getBody()
-                        .getSubject();
-
-                if (user != null)
-                    return user;
-            } catch (Exception e) {
-                // Invalid token
-                return null;
-            }
-        }
-
-        return null;
-    }
-}
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.safework.api.security;
 
+import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.user.model.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,56 +16,120 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
+/**
+ * Issues and verifies the API's JWTs.
+ * The HMAC key and the (immutable, thread-safe) parser are built once at startup and shared by every request.
+ */
 @Component
 public class JwtTokenProvider {
-    
-    @Value("${safework.jwt.expiration-ms:86400000}")
-    private long expirationTime;
-    
-    @Value("${safework.jwt.secret}")
-    private String jwtSecret;
-    
+
     private static final String PREFIX = "Bearer ";
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ORGANIZATION_ID = "org";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private final long expirationTime;
+
+    // When enabled, tokens carry the principal's ids and role so requests can be authenticated without a user lookup
+    private final boolean statelessClaims;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(@Value("${safework.jwt.secret}") String jwtSecret,
+                            @Value("${safework.jwt.expiration-ms:86400000}") long expirationTime,
+                            @Value("${safework.jwt.stateless-claims:false}") boolean statelessClaims) {
+        this.expirationTime = expirationTime;
+        this.statelessClaims = statelessClaims;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
-    
+
     // Generate JWT token
     public String getToken(String username) {
+        return newToken(username).compact();
+    }
+
+    // Generate JWT token for a user, signing its ids and role as claims in stateless mode
+    public String getToken(User user) {
+        JwtBuilder builder = newToken(user.getEmail());
+        if (statelessClaims) {
+            builder.claim(CLAIM_USER_ID, user.getId())
+                    .claim(CLAIM_ORGANIZATION_ID, user.getOrganization().getId())
+                    .claim(CLAIM_ROLE, user.getRole().name())
+                    .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
+        return builder.compact();
+    }
+
+    private JwtBuilder newToken(String username) {
         return Jwts.builder()
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .signWith(signingKey, SignatureAlgorithm.HS256);
     }
 
     // Get a token from request Authorization header,
     // parse a token and get username
     public String getAuthUser(HttpServletRequest request) {
+        Claims claims = getAuthClaims(request);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    // Get a token from request Authorization header,
+    // verify it and return its claims
+    public Claims getAuthClaims(HttpServletRequest request) {
+        String jws = resolveToken(request);
+        return jws != null ? parseClaims(jws) : null;
+    }
+
+    // Get the compact token from a "Bearer" Authorization header, or null if there is none
+    public String resolveToken(HttpServletRequest request) {
         String token = request.getHeader(HttpHeaders.AUTHORIZATION);
 
         if (token != null && token.startsWith(PREFIX)) {
-            try {
-                String user = Jwts.parserBuilder()
-                        .setSigningKey(getSigningKey())
-                        .build()
-                        .parseClaimsJws(token.substring(PREFIX.length()))
-                        .getBody()
-                        .getSubject();
-
-                if (user != null)
-                    return user;
-            } catch (Exception e) {
-                // Invalid token
-                return null;
-            }
+            return token.substring(PREFIX.length());
         }
 
         return null;
     }
-}
\ No newline at end of file
+
+    // Verify a compact token and return its claims, or null if it is invalid, expired or has no subject
+    public Claims parseClaims(String jws) {
+        try {
+            Claims claims = parser.parseClaimsJws(jws).getBody();
+            return claims.getSubject() != null ? claims : null;
+        } catch (Exception e) {
+            // Invalid token
+            return null;
+        }
+    }
+
+    /**
+     * Builds the principal straight from verified claims when stateless mode is on.
+     * Returns empty for subject-only tokens (or when the mode is off) so the caller falls back to a lookup.
+     */
+    public Optional<AuthenticatedUser> getClaimsPrincipal(Claims claims) {
+        if (!statelessClaims || claims.get(CLAIM_USER_ID) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new AuthenticatedUser(
+                claims.get(CLAIM_USER_ID, Long.class),
+                claims.getSubject(),
+                claims.get(CLAIM_ORGANIZATION_ID, Long.class),
+                UserRole.valueOf(claims.get(CLAIM_ROLE, String.class))
+        ));
+    }
+
+    public int getTokenVersion(Claims claims) {
+        Integer version = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        return version != null ? version : 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.safework.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safework.api.domain.user.event.UserAccessChangedEvent;
+import com.safework.api.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals keyed by JWT subject (the user's email).
+ * Keeps the users table off the hot path of every authenticated request.
+ *
+ * Entries are dropped when a user's email, role or organization changes (see {@link UserAccessChangedEvent}),
+ * and the TTL bounds how long a change made outside the repository can go unnoticed.
+ * Hit/miss/eviction counts are exported as the "principals" cache in Micrometer.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, AuthenticatedUser> cache;
+    private final UserRepository userRepository;
+
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${safework.security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${safework.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Resolves the principal for a verified token subject, loading it from the database on a miss.
+     * @param subject the JWT subject (user email)
+     * @return the principal, or empty if no such user exists
+     */
+    public Optional<AuthenticatedUser> get(String subject) {
+        AuthenticatedUser cached = cache.getIfPresent(subject);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Unknown subjects are not cached so that a user created later is picked up immediately
+        Optional<AuthenticatedUser> loaded = userRepository.findByEmail(subject).map(AuthenticatedUser::from);
+        loaded.ifPresent(principal -> cache.put(subject, principal));
+        return loaded;
+    }
+
+    public void invalidate(String subject) {
+        cache.invalidate(subject);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        invalidate(event.previousEmail());
+        invalidate(event.email());
+    }
+}
@@ -0,0 +1,50 @@
+package com.safework.api.security;
+
+import com.safework.api.domain.user.event.UserAccessChangedEvent;
+import com.safework.api.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of the lowest token version each user may still present.
+ * Lets the stateless claims mode reject tokens issued before a demotion or organization move
+ * without a database round-trip. Only users whose access has ever changed have an entry.
+ *
+ * The registry is seeded from the users table at startup and kept current from
+ * {@link UserAccessChangedEvent}s raised on this node. Other nodes learn about a change
+ * on their next restart, so multi-node deployments should keep safework.jwt.expiration-ms short
+ * when stateless claims are enabled.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<Long, Integer> minimumVersions = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+
+    public TokenRevocationRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        userRepository.findChangedTokenVersions()
+                .forEach(view -> minimumVersions.merge(view.getId(), view.getTokenVersion(), Math::max));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        minimumVersions.merge(event.userId(), event.tokenVersion(), Math::max);
+    }
+
+    /**
+     * @return true if a token carrying the given version is still valid for the user.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= minimumVersions.getOrDefault(userId, 0);
+    }
+}
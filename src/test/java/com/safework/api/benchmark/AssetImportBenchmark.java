@@ -0,0 +1,86 @@
+package com.safework.api.benchmark;
+
+import com.safework.api.SafeWorkApiApplication;
+import com.safework.api.domain.asset.dto.AssetImportReport;
+import com.safework.api.domain.asset.service.AssetImportService;
+import com.safework.api.domain.user.model.UserRole;
+import com.safework.api.security.AuthenticatedUser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time to import 50k assets through AssetImportService, from a CSV body to committed rows.
+ * Each invocation imports a fresh set of tags. Boots the application against in-memory H2, so this measures
+ * the import pipeline rather than a networked database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AssetImportBenchmark {
+
+    private static final int ROWS = 50_000;
+
+    private ConfigurableApplicationContext context;
+    private AssetImportService importService;
+    private AuthenticatedUser admin;
+    private long assetTypeId;
+    private int run;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SafeWorkApiApplication.class)
+                .run("--safework.jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret",
+                        "--spring.datasource.url=jdbc:h2:mem:import;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.flyway.enabled=false",
+                        "--logging.level.root=WARN");
+        importService = context.getBean(AssetImportService.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("INSERT INTO organizations (name, created_at) VALUES ('Benchmark Org', NOW())");
+        long organizationId = jdbc.queryForObject("SELECT MAX(id) FROM organizations", Long.class);
+        jdbc.update("INSERT INTO asset_types (name, organization_id) VALUES ('Forklift', ?)", organizationId);
+        assetTypeId = jdbc.queryForObject("SELECT MAX(id) FROM asset_types", Long.class);
+        admin = new AuthenticatedUser(1L, "admin@bench.com", organizationId, UserRole.ADMIN);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBody() {
+        run++;
+        StringBuilder csv = new StringBuilder("assetTag,name,qrCodeId,assetTypeId\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("R").append(run).append("-").append(i).append(",Forklift ").append(i)
+                    .append(",QR-R").append(run).append("-").append(i).append(',').append(assetTypeId).append('\n');
+        }
+        body = csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AssetImportReport import50k() throws IOException {
+        AssetImportReport report = importService.importAssets(new ByteArrayInputStream(body), MediaType.parseMediaType("text/csv"), admin);
+        if (report.created() != ROWS) {
+            throw new IllegalStateException("Expected " + ROWS + " rows, created " + report.created());
+        }
+        return report;
+    }
+}
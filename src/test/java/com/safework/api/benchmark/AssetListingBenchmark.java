@@ -0,0 +1,94 @@
+package com.safework.api.benchmark;
+
+import com.safework.api.SafeWorkApiApplication;
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.mapper.AssetMapper;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one 50-row page of the asset listing: hydrating Asset entities (with their JSON customAttributes)
+ * and mapping them with AssetMapper, versus the AssetDto constructor projection.
+ * Boots the application against in-memory H2; run with -Dbenchmark.args="-prof gc" for allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetListingBenchmark {
+
+    private static final int ASSETS = 5_000;
+
+    private ConfigurableApplicationContext context;
+    private AssetRepository assetRepository;
+    private AssetMapper assetMapper;
+    private TransactionTemplate readOnlyTransaction;
+    private long organizationId;
+    private final Pageable pageable = PageRequest.of(10, 50);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SafeWorkApiApplication.class)
+                .run("--safework.jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret",
+                        "--spring.datasource.url=jdbc:h2:mem:listing;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.flyway.enabled=false",
+                        "--logging.level.root=WARN");
+        assetRepository = context.getBean(AssetRepository.class);
+        assetMapper = context.getBean(AssetMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("INSERT INTO organizations (name, created_at) VALUES ('Benchmark Org', NOW())");
+        organizationId = jdbc.queryForObject("SELECT MAX(id) FROM organizations", Long.class);
+        jdbc.update("INSERT INTO asset_types (name, organization_id) VALUES ('Forklift', ?)",
+                organizationId);
+        long assetTypeId = jdbc.queryForObject("SELECT MAX(id) FROM asset_types", Long.class);
+
+        TimeOrderedIdAllocator ids = context.getBean(TimeOrderedIdAllocator.class);
+        List<Object[]> rows = new ArrayList<>(ASSETS);
+        for (int i = 0; i < ASSETS; i++) {
+            rows.add(new Object[]{ids.nextId(), "BENCH-" + i, "Asset " + i, "QR-BENCH-" + i, organizationId, assetTypeId,
+                    "{\"capacity\":" + i + ",\"fuel\":\"diesel\",\"tags\":[\"yard\",\"night-shift\"]}"});
+        }
+        jdbc.batchUpdate("INSERT INTO assets (id, asset_tag, name, qr_code_id, organization_id, asset_type_id, status, "
+                + "custom_attributes, version, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', ? FORMAT JSON, 0, NOW(), NOW())", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<AssetDto> hydrateEntitiesAndMap() {
+        return readOnlyTransaction.execute(status ->
+                assetRepository.findAllByOrganizationId(organizationId, pageable).map(assetMapper::toDto));
+    }
+
+    @Benchmark
+    public Page<AssetDto> dtoProjection() {
+        return readOnlyTransaction.execute(status ->
+                assetRepository.findDtosByOrganizationId(organizationId, pageable));
+    }
+}
@@ -0,0 +1,131 @@
+package com.safework.api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deep-page cost of the asset listing: the offset path behind Page&lt;AssetDto&gt; (COUNT(*) plus LIMIT/OFFSET)
+ * versus the keyset path (seek on (organization_id, id), one extra row instead of a count).
+ * Runs plain SQL against in-memory H2 with a 200k-asset tenant next to a smaller one; absolute numbers differ
+ * from MariaDB, but the offset path grows with the page number on both while the keyset path does not.
+ * H2 only reads the composite index in order when the equality column is named in ORDER BY (MariaDB infers it),
+ * hence "ORDER BY organization_id, id"; result reuse is disabled so repeated queries are really executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetPaginationBenchmark {
+
+    private static final long TENANT = 1L;
+    private static final int TENANT_ASSETS = 200_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "1000", "7000"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement countQuery;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement keysetQuery;
+    private long lastIdBeforePage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:pagination;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS assets");
+            ddl.execute("CREATE TABLE assets (id BIGINT AUTO_INCREMENT PRIMARY KEY, organization_id BIGINT NOT NULL, "
+                    + "asset_tag VARCHAR(64) NOT NULL, name VARCHAR(255) NOT NULL, status VARCHAR(32) NOT NULL, "
+                    + "version INT NOT NULL)");
+            ddl.execute("CREATE INDEX idx_assets_organization_id_id ON assets (organization_id, id)");
+        }
+        // Interleave two tenants so the big tenant's rows are not one contiguous id range
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO assets (organization_id, asset_tag, name, status, version) VALUES (?, ?, ?, 'ACTIVE', 0)")) {
+            for (int i = 0; i < TENANT_ASSETS; i++) {
+                insert.setLong(1, i % 4 == 3 ? 2L : TENANT);
+                insert.setString(2, "TAG-" + i);
+                insert.setString(3, "Asset " + i);
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        countQuery = connection.prepareStatement("SELECT COUNT(*) FROM assets WHERE organization_id = ?");
+        offsetQuery = connection.prepareStatement(
+                "SELECT id, asset_tag, name, status, version FROM assets WHERE organization_id = ? "
+                        + "ORDER BY organization_id, id LIMIT ? OFFSET ?");
+        keysetQuery = connection.prepareStatement(
+                "SELECT id, asset_tag, name, status, version FROM assets WHERE organization_id = ? AND id > ? "
+                        + "ORDER BY organization_id, id LIMIT ?");
+
+        // The cursor a client would be holding after walking to this page
+        lastIdBeforePage = 0L;
+        if (page > 0) {
+            try (PreparedStatement cursor = connection.prepareStatement(
+                    "SELECT id FROM assets WHERE organization_id = ? ORDER BY organization_id, id LIMIT 1 OFFSET ?")) {
+                cursor.setLong(1, TENANT);
+                cursor.setInt(2, page * PAGE_SIZE - 1);
+                try (ResultSet rs = cursor.executeQuery()) {
+                    rs.next();
+                    lastIdBeforePage = rs.getLong(1);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE assets");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetPageWithCount(Blackhole bh) throws SQLException {
+        countQuery.setLong(1, TENANT);
+        try (ResultSet rs = countQuery.executeQuery()) {
+            rs.next();
+            bh.consume(rs.getLong(1));
+        }
+        offsetQuery.setLong(1, TENANT);
+        offsetQuery.setInt(2, PAGE_SIZE);
+        offsetQuery.setInt(3, page * PAGE_SIZE);
+        consumeRows(offsetQuery, bh);
+    }
+
+    @Benchmark
+    public void keysetSlice(Blackhole bh) throws SQLException {
+        keysetQuery.setLong(1, TENANT);
+        keysetQuery.setLong(2, lastIdBeforePage);
+        keysetQuery.setInt(3, PAGE_SIZE + 1); // One extra row answers hasNext
+        consumeRows(keysetQuery, bh);
+    }
+
+    private static void consumeRows(PreparedStatement query, Blackhole bh) throws SQLException {
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getLong(1));
+                bh.consume(rs.getString(2));
+                bh.consume(rs.getString(3));
+                bh.consume(rs.getString(4));
+                bh.consume(rs.getInt(5));
+            }
+        }
+    }
+}
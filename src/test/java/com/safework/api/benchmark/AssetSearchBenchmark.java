@@ -0,0 +1,72 @@
+package com.safework.api.benchmark;
+
+import com.safework.api.domain.asset.dto.AssetSearchDocument;
+import com.safework.api.domain.asset.service.AssetSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one search over an organization's assets: the in-memory n-gram index versus a linear
+ * contains-scan over the same text, which is what LIKE '%x%' does per row in the database (before any I/O).
+ * Queries cover a selective tag fragment, a common word and a short prefix.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetSearchBenchmark {
+
+    private static final String[] TYPES = {"Forklift", "Pallet jack", "Reach truck", "Ladder", "Fire extinguisher"};
+    private static final String[] LOCATIONS = {"Warehouse North", "Warehouse South", "Yard", "Loading dock", "Head office"};
+
+    @Param({"10000", "100000"})
+    private int assets;
+
+    @Param({"fl-0421", "ladder", "wa"})
+    private String query;
+
+    private AssetSearchIndex index;
+    private List<String[]> rows;
+
+    @Setup
+    public void setUp() {
+        index = new AssetSearchIndex();
+        rows = new ArrayList<>(assets);
+        for (int i = 0; i < assets; i++) {
+            String type = TYPES[i % TYPES.length];
+            AssetSearchDocument asset = new AssetSearchDocument((long) i, String.format("FL-%05d", i), type + " " + i,
+                    "QR-" + Integer.toHexString(i * 7919), type, LOCATIONS[i % LOCATIONS.length]);
+            index.put(asset);
+            rows.add(new String[] {asset.assetTag().toLowerCase(Locale.ROOT), asset.name().toLowerCase(Locale.ROOT),
+                    asset.qrCodeId().toLowerCase(Locale.ROOT), asset.assetTypeName().toLowerCase(Locale.ROOT),
+                    asset.locationName().toLowerCase(Locale.ROOT)});
+        }
+    }
+
+    @Benchmark
+    public AssetSearchIndex.Result invertedIndex() {
+        return index.search(query, 20);
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (String[] row : rows) {
+            for (String field : row) {
+                if (field.contains(needle)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        blackhole.consume(matches);
+    }
+}
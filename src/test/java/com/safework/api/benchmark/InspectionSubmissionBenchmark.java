@@ -0,0 +1,153 @@
+package com.safework.api.benchmark;
+
+import com.safework.api.domain.asset.model.Asset;
+import com.safework.api.domain.asset.repository.AssetRepository;
+import com.safework.api.domain.checklist.model.Checklist;
+import com.safework.api.domain.checklist.model.ChecklistStatus;
+import com.safework.api.domain.checklist.repository.ChecklistRepository;
+import com.safework.api.domain.checklist.service.ChecklistTemplateCache;
+import com.safework.api.domain.inspection.dto.CreateInspectionRequest;
+import com.safework.api.domain.inspection.dto.InspectionDto;
+import com.safework.api.domain.inspection.mapper.InspectionMapper;
+import com.safework.api.domain.inspection.model.Inspection;
+import com.safework.api.domain.inspection.repository.InspectionRepository;
+import com.safework.api.domain.inspection.service.InspectionService;
+import com.safework.api.domain.organization.model.Organization;
+import com.safework.api.domain.sync.service.SyncChangeLog;
+import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.user.model.UserRole;
+import com.safework.api.domain.user.repository.UserRepository;
+import com.safework.api.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency distribution of POST /v1/inspections' service path with concurrent inspectors submitting reports
+ * against a 200-item checklist. Repositories are stubs, so this measures the template lookup and the
+ * single-pass report validation, not the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class InspectionSubmissionBenchmark {
+
+    private static final long ORGANIZATION_ID = 1L;
+    private static final long CHECKLIST_ID = 10L;
+    private static final int SECTIONS = 10;
+    private static final int ITEMS_PER_SECTION = 20;
+
+    private InspectionService inspectionService;
+    private AuthenticatedUser inspector;
+    private List<CreateInspectionRequest> requests;
+
+    @Setup
+    public void setUp() {
+        Organization organization = new Organization();
+        organization.setId(ORGANIZATION_ID);
+        Asset asset = new Asset();
+        asset.setId(100L);
+        asset.setOrganization(organization);
+        Checklist checklist = new Checklist();
+        checklist.setId(CHECKLIST_ID);
+        checklist.setOrganization(organization);
+        checklist.setName("Forklift Daily Check");
+        checklist.setStatus(ChecklistStatus.ACTIVE);
+        checklist.setTemplateData(template());
+        User user = new User();
+        user.setId(1000L);
+
+        AssetRepository assetRepository = Mockito.mock(AssetRepository.class);
+        Mockito.when(assetRepository.findById(asset.getId())).thenReturn(Optional.of(asset));
+        ChecklistRepository checklistRepository = Mockito.mock(ChecklistRepository.class);
+        Mockito.when(checklistRepository.findVersionByIdAndOrganizationId(CHECKLIST_ID, ORGANIZATION_ID)).thenReturn(Optional.of(0));
+        Mockito.when(checklistRepository.findById(CHECKLIST_ID)).thenReturn(Optional.of(checklist));
+        Mockito.when(checklistRepository.getReferenceById(CHECKLIST_ID)).thenReturn(checklist);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+        InspectionRepository inspectionRepository = Mockito.mock(InspectionRepository.class);
+        AtomicLong ids = new AtomicLong();
+        Mockito.when(inspectionRepository.save(Mockito.any(Inspection.class))).thenAnswer(invocation -> {
+            Inspection inspection = invocation.getArgument(0);
+            inspection.setId(ids.incrementAndGet());
+            return inspection;
+        });
+
+        ChecklistTemplateCache templateCache = new ChecklistTemplateCache(checklistRepository, new SimpleMeterRegistry(),
+                DataSize.ofMegabytes(64), Duration.ofHours(1));
+        inspectionService = new InspectionService(inspectionRepository, assetRepository, checklistRepository,
+                userRepository, new InspectionMapper(), Mockito.mock(SyncChangeLog.class), templateCache);
+        inspector = new AuthenticatedUser(user.getId(), "inspector@example.com", ORGANIZATION_ID, UserRole.INSPECTOR);
+
+        requests = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            requests.add(new CreateInspectionRequest(asset.getId(), CHECKLIST_ID, null, "PASSED", report(i)));
+        }
+    }
+
+    @Benchmark
+    public InspectionDto submit() {
+        CreateInspectionRequest request = requests.get(ThreadLocalRandom.current().nextInt(requests.size()));
+        return inspectionService.createInspection(request, inspector);
+    }
+
+    private static Map<String, Object> template() {
+        List<Object> sections = new ArrayList<>();
+        for (int s = 0; s < SECTIONS; s++) {
+            List<Object> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_SECTION; i++) {
+                Map<String, Object> item = new HashMap<>();
+                item.put("id", itemId(s, i));
+                item.put("question", "Check " + s + "." + i);
+                switch (i % 4) {
+                    case 0 -> item.put("type", "boolean");
+                    case 1 -> item.put("type", "rating");
+                    case 2 -> item.put("type", "text");
+                    default -> {
+                        item.put("type", "choice");
+                        item.put("options", List.of("OK", "WORN", "DAMAGED"));
+                    }
+                }
+                item.put("required", i % 2 == 0);
+                items.add(item);
+            }
+            sections.add(Map.of("name", "Section " + s, "items", items));
+        }
+        return Map.of("sections", sections);
+    }
+
+    private static Map<String, Object> report(int seed) {
+        Map<String, Object> responses = new HashMap<>();
+        for (int s = 0; s < SECTIONS; s++) {
+            for (int i = 0; i < ITEMS_PER_SECTION; i++) {
+                Object answer = switch (i % 4) {
+                    case 0 -> (seed + i) % 3 != 0;
+                    case 1 -> 1 + (seed + i) % 5;
+                    case 2 -> "Looks fine";
+                    default -> "OK";
+                };
+                responses.put(itemId(s, i), answer);
+            }
+        }
+        return Map.of("responses", responses, "notes", "Routine check " + seed);
+    }
+
+    private static String itemId(int section, int item) {
+        return "S" + section + "-" + item;
+    }
+}
@@ -0,0 +1,80 @@
+package com.safework.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safework.api.domain.util.JsonValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of copying a checklist templateData tree: the previous round trip through a JSON string, the structural
+ * deepCopy, a first immutableCopy, and an immutableCopy of data that is already a snapshot (structurally shared).
+ * Run with -Dbenchmark.args="-prof gc" to compare allocation per copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCopyBenchmark {
+
+    @Param({"20", "200"})
+    private int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Map<String, Object> templateData;
+    private Map<String, Object> snapshot;
+
+    @Setup
+    public void setUp() {
+        List<Object> sections = new ArrayList<>();
+        for (int s = 0; s < Math.max(1, items / 20); s++) {
+            List<Object> sectionItems = new ArrayList<>();
+            for (int i = 0; i < Math.min(20, items); i++) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("id", "S" + s + "-" + i);
+                item.put("question", "Is component " + i + " of section " + s + " free of damage and working?");
+                item.put("type", i % 2 == 0 ? "boolean" : "choice");
+                item.put("required", i % 3 == 0);
+                if (i % 2 != 0) {
+                    item.put("options", new ArrayList<>(List.of("OK", "WORN", "DAMAGED")));
+                }
+                sectionItems.add(item);
+            }
+            Map<String, Object> section = new LinkedHashMap<>();
+            section.put("name", "Section " + s);
+            section.put("items", sectionItems);
+            sections.add(section);
+        }
+        templateData = new LinkedHashMap<>();
+        templateData.put("sections", sections);
+        templateData.put("scoring", Map.of("passThreshold", 0.9, "weights", List.of(1, 2, 3)));
+        snapshot = JsonValidator.immutableCopy(templateData);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> jsonRoundTrip() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(templateData), Map.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> deepCopy() {
+        return JsonValidator.deepCopy(templateData);
+    }
+
+    @Benchmark
+    public Map<String, Object> immutableCopy() {
+        return JsonValidator.immutableCopy(templateData);
+    }
+
+    @Benchmark
+    public Map<String, Object> immutableCopyOfSnapshot() {
+        return JsonValidator.immutableCopy(snapshot);
+    }
+}
@@ -0,0 +1,70 @@
+package com.safework.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safework.api.domain.util.JsonValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating one inspection reportData, by serializing it to a throwaway String (the previous
+ * JsonValidator) versus the single-pass walk. Payloads are shaped like submitted reports: one answer per item
+ * of a checklist, plus notes, photo references and device metadata.
+ * Run with -Dbenchmark.args="-prof gc" to compare allocation per validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonValidationBenchmark {
+
+    @Param({"20", "200"})
+    private int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Map<String, Object> reportData;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> responses = new LinkedHashMap<>();
+        for (int i = 0; i < items; i++) {
+            Object answer = switch (i % 4) {
+                case 0 -> i % 3 != 0;
+                case 1 -> 1 + i % 5;
+                case 2 -> "Minor wear on the left fork, within tolerance (" + i + ")";
+                default -> "OK";
+            };
+            responses.put("S" + i / 20 + "-" + i % 20, answer);
+        }
+        List<Object> photos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            photos.add(Map.of("itemId", "S0-" + i, "url", "https://cdn.example.com/inspections/photo-" + i + ".jpg",
+                    "takenAt", "2025-09-03T09:51:10Z"));
+        }
+        reportData = new HashMap<>();
+        reportData.put("responses", responses);
+        reportData.put("notes", "Routine pre-shift inspection. Horn slightly weak, reported to maintenance.");
+        reportData.put("photos", photos);
+        reportData.put("device", Map.of("platform", "android", "appVersion", "3.4.1", "offline", true,
+                "location", Map.of("lat", 52.3702, "lng", 4.8952, "accuracy", 12.5)));
+    }
+
+    @Benchmark
+    public void serializeToString(Blackhole blackhole) throws JsonProcessingException {
+        blackhole.consume(objectMapper.writeValueAsString(reportData));
+    }
+
+    @Benchmark
+    public void streamingWalk() {
+        JsonValidator.validateJson(reportData, "reportData");
+    }
+}
@@ -0,0 +1,58 @@
+package com.safework.api.benchmark;
+
+import com.safework.api.security.JwtTokenProvider;
+import com.safework.api.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT verification cost: the old path that rebuilt the HMAC key and parser on every call
+ * versus JwtTokenProvider's precomputed key and shared parser, and a VerifiedTokenCache hit.
+ * Run with -Dbenchmark.args="-prof gc" to see allocation per verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtTokenProvider provider;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000, false);
+        cache = new VerifiedTokenCache(provider, new SimpleMeterRegistry(), 1_000);
+        token = provider.getToken("inspector@apex.com");
+    }
+
+    @Benchmark
+    public Claims rebuildKeyAndParserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return provider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims cachedVerification() {
+        return cache.verify(token);
+    }
+}
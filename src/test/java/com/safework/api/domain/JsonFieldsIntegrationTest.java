@@ -249,6 +249,44 @@ public class JsonFieldsIntegrationTest {
             .hasMessageContaining("Invalid JSON data");
     }
 
+    @Test
+    void testJsonDataIsRevalidatedWhenChangedInPlace() {
+        // Given
+        Asset asset = new Asset();
+        asset.setAssetTag("ASSET-006");
+        asset.setName("Asset changed in place");
+        asset.setOrganization(organization);
+        asset.setAssetType(assetType);
+        asset.setStatus(AssetStatus.ACTIVE);
+
+        Map<String, Object> customAttributes = new HashMap<>();
+        customAttributes.put("manufacturer", "ACME Corp");
+        asset.setCustomAttributes(customAttributes);
+
+        // The setter keeps a read-only snapshot, so the validated data cannot be changed behind its back
+        customAttributes.put("model", "X-2000");
+        assertThat(asset.getCustomAttributes()).containsOnlyKeys("manufacturer");
+        assertThatThrownBy(() -> asset.getCustomAttributes().put("model", "X-2000"))
+            .isInstanceOf(UnsupportedOperationException.class);
+
+        entityManager.persist(asset);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When a loaded (mutable) map is nested deeper than allowed in place
+        Asset loadedAsset = entityManager.find(Asset.class, asset.getId());
+        Map<String, Object> deepest = loadedAsset.getCustomAttributes();
+        for (int i = 0; i < 40; i++) {
+            Map<String, Object> next = new HashMap<>();
+            deepest.put("nested", next);
+            deepest = next;
+        }
+
+        // Then the flush still validates it
+        assertThatThrownBy(() -> entityManager.flush())
+            .hasStackTraceContaining("nested deeper than");
+    }
+
     @Test
     void testComplexNestedJsonStructures() {
         // Given
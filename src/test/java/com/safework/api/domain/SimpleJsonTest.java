@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.safework.api.domain.util.JsonValidator;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +67,40 @@ public class SimpleJsonTest {
             .hasMessageContaining("Invalid JSON data");
     }
 
+    @Test
+    void testJsonValidatorEnforcesLimits() {
+        JsonValidator.Limits limits = new JsonValidator.Limits(3, 4, 64);
+
+        // Depth: the top-level object is level 1
+        Map<String, Object> deep = Map.of("a", Map.of("b", Map.of("c", Map.of())));
+        assertThatThrownBy(() -> JsonValidator.validateJson(deep, "deepField", limits))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("nested deeper than 3 levels");
+        JsonValidator.validateJson(Map.of("a", Map.of("b", List.of())), "shallowField", limits);
+
+        // Keys are counted across all levels
+        Map<String, Object> manyKeys = Map.of("a", 1, "b", 2, "c", Map.of("d", 3, "e", 4));
+        assertThatThrownBy(() -> JsonValidator.validateJson(manyKeys, "keysField", limits))
+            .hasMessageContaining("more than 4 object keys");
+
+        // {"text":"..."} with 60 characters of text serializes to 71 bytes
+        Map<String, Object> large = Map.of("text", "x".repeat(60));
+        assertThatThrownBy(() -> JsonValidator.validateJson(large, "sizeField", limits))
+            .hasMessageContaining("larger than 64 bytes");
+    }
+
+    @Test
+    void testJsonValidatorRejectsNonJsonValues() {
+        Map<String, Object> withObject = new HashMap<>();
+        withObject.put("when", new Object());
+        assertThatThrownBy(() -> JsonValidator.validateJson(withObject, "objectField"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("unsupported value");
+
+        assertThatThrownBy(() -> JsonValidator.validateJson(Map.of("ratio", Double.NaN), "numberField"))
+            .hasMessageContaining("non-finite number");
+    }
+
     @Test
     void testDeepCopyWithSimpleData() {
         // Given
@@ -116,6 +151,37 @@ public class SimpleJsonTest {
         assertThat(copy).isNull();
     }
 
+    @Test
+    void testImmutableCopyIsReadOnlyAndShared() {
+        // Given
+        Map<String, Object> original = new HashMap<>();
+        original.put("list", new ArrayList<>(List.of(1, 2, 3)));
+        original.put("nested", new HashMap<>(Map.of("inner", "value")));
+
+        // When
+        Map<String, Object> snapshot = JsonValidator.immutableCopy(original);
+
+        // Then - equal, detached from the original and unmodifiable at every level
+        assertThat(snapshot).isEqualTo(original);
+        original.put("list", List.of());
+        assertThat(snapshot.get("list")).isEqualTo(List.of(1, 2, 3));
+        assertThatThrownBy(() -> snapshot.put("key", "value")).isInstanceOf(UnsupportedOperationException.class);
+        @SuppressWarnings("unchecked")
+        List<Object> list = (List<Object>) snapshot.get("list");
+        assertThatThrownBy(() -> list.add(4)).isInstanceOf(UnsupportedOperationException.class);
+
+        // Snapshots are shared rather than copied again, including inside new data
+        assertThat(JsonValidator.immutableCopy(snapshot)).isSameAs(snapshot);
+        Map<String, Object> outer = new HashMap<>();
+        outer.put("snapshot", snapshot);
+        assertThat(JsonValidator.immutableCopy(outer).get("snapshot")).isSameAs(snapshot);
+
+        // A deep copy of a snapshot can be changed again
+        Map<String, Object> editable = JsonValidator.deepCopy(snapshot);
+        editable.put("key", "value");
+        assertThat(editable).containsEntry("key", "value");
+    }
+
     @Test
     void testJsonSerializationCompatibility() throws Exception {
         // Given - complex structure that should work with both H2 and MariaDB
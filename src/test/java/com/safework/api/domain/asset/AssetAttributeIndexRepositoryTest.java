@@ -0,0 +1,69 @@
+package com.safework.api.domain.asset;
+
+import com.safework.api.domain.asset.model.AssetAttributeIndexEntry;
+import com.safework.api.domain.asset.repository.AssetAttributeIndexRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional
+public class AssetAttributeIndexRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private AssetAttributeIndexRepository attributeIndexRepository;
+
+    @Test
+    void testLookupIsScopedAndOrderedByAssetId() {
+        entry(1L, 10L, 300L, "fuel", "LPG");
+        entry(1L, 10L, 100L, "fuel", "LPG");
+        entry(1L, 10L, 200L, "fuel", "diesel");
+        entry(1L, 11L, 400L, "fuel", "LPG"); // Another asset type
+        entry(2L, 10L, 500L, "fuel", "LPG"); // Another organization
+        entry(1L, 10L, 600L, "fuel", "LPG");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> firstPage = attributeIndexRepository.findAssetIdsAfter(1L, 10L, "fuel", "LPG", 0L, PageRequest.ofSize(2));
+        assertThat(firstPage).containsExactly(100L, 300L);
+
+        List<Long> rest = attributeIndexRepository.findAssetIdsAfter(1L, 10L, "fuel", "LPG", 300L, PageRequest.ofSize(2));
+        assertThat(rest).containsExactly(600L);
+    }
+
+    @Test
+    void testFurtherFiltersNarrowCandidates() {
+        entry(1L, 10L, 100L, "fuel", "LPG");
+        entry(1L, 10L, 100L, "capacityKg", "2500");
+        entry(1L, 10L, 200L, "fuel", "LPG");
+        entry(1L, 10L, 200L, "capacityKg", "1800");
+        entry(1L, 10L, 300L, "capacityKg", "2500");
+        entityManager.flush();
+
+        assertThat(attributeIndexRepository.findAssetIdsIn(1L, 10L, "capacityKg", "2500", List.of(100L, 200L)))
+                .containsExactly(100L);
+    }
+
+    private void entry(Long organizationId, Long assetTypeId, Long assetId, String key, String value) {
+        AssetAttributeIndexEntry entry = new AssetAttributeIndexEntry();
+        entry.setOrganizationId(organizationId);
+        entry.setAssetTypeId(assetTypeId);
+        entry.setAssetId(assetId);
+        entry.setAttrKey(key);
+        entry.setAttrValue(value);
+        entityManager.persist(entry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.safework.api.domain.asset;
+
+import com.safework.api.domain.asset.service.AssetAttributeSchema;
+import com.safework.api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for compiling asset type attribute schemas and deriving index entries from them.
+ */
+public class AssetAttributeSchemaTest {
+
+    private static final AssetAttributeSchema FORKLIFT = AssetAttributeSchema.compile(Map.of("attributes", Map.of(
+            "fuel", Map.of("type", "string", "indexed", true, "options", List.of("LPG", "diesel", "electric")),
+            "capacityKg", Map.of("type", "number", "indexed", true),
+            "hasCage", Map.of("type", "boolean"))));
+
+    @Test
+    void testIndexedValuesAreNormalized() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("fuel", "LPG");
+        attributes.put("capacityKg", 2500.0);
+        attributes.put("hasCage", true);
+        attributes.put("colour", "yellow");
+
+        assertThat(FORKLIFT.indexedValues(attributes)).containsExactlyInAnyOrder(
+                new AssetAttributeSchema.IndexedValue("fuel", "LPG"),
+                new AssetAttributeSchema.IndexedValue("capacityKg", "2500"));
+    }
+
+    @Test
+    void testNumbersMatchWhateverTheirRepresentation() {
+        String indexed = FORKLIFT.indexedValues(Map.of("capacityKg", new BigDecimal("2.50E+3"))).get(0).value();
+
+        assertThat(FORKLIFT.indexedValues(Map.of("capacityKg", 2500)).get(0).value()).isEqualTo(indexed);
+        assertThat(FORKLIFT.criterion("capacityKg", "2500.00").value()).isEqualTo(indexed);
+    }
+
+    @Test
+    void testDeclaredAttributesAreTypeChecked() {
+        FORKLIFT.validate(Map.of("fuel", "diesel", "capacityKg", 1800, "notInSchema", List.of(1, 2)));
+
+        assertThatThrownBy(() -> FORKLIFT.validate(Map.of("fuel", "petrol", "hasCage", "yes")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("fuel must be one of")
+                .hasMessageContaining("hasCage must be a boolean");
+    }
+
+    @Test
+    void testFiltersRequireIndexedAttributesAndTypedValues() {
+        assertThatThrownBy(() -> FORKLIFT.criterion("hasCage", "true"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("not indexed");
+        assertThatThrownBy(() -> FORKLIFT.criterion("capacityKg", "heavy"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void testMalformedSchemasAreRejected() {
+        assertThatThrownBy(() -> AssetAttributeSchema.compile(Map.of("fuel", "string")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> AssetAttributeSchema.compile(Map.of("attributes", Map.of("fuel", Map.of("type", "date")))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("unknown type");
+        assertThatThrownBy(() -> AssetAttributeSchema.compile(Map.of("attributes",
+                Map.of("capacityKg", Map.of("type", "number", "options", List.of("1"))))))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
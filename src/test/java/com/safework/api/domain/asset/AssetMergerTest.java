@@ -0,0 +1,149 @@
+package com.safework.api.domain.asset;
+
+import com.safework.api.domain.asset.dto.FieldChange;
+import com.safework.api.domain.asset.dto.MergeAssetRequest;
+import com.safework.api.domain.asset.model.Asset;
+import com.safework.api.domain.asset.model.AssetStatus;
+import com.safework.api.domain.asset.service.AssetMerger;
+import com.safework.api.domain.organization.model.Organization;
+import com.safework.api.domain.user.model.User;
+import com.safework.api.domain.user.model.UserRole;
+import com.safework.api.domain.user.repository.UserRepository;
+import com.safework.api.exception.BadRequestException;
+import com.safework.api.exception.ConflictException;
+import com.safework.api.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the three-way merge of asset edits.
+ */
+public class AssetMergerTest {
+
+    private static final AuthenticatedUser SUPERVISOR = new AuthenticatedUser(1L, "sam@example.com", 1L, UserRole.SUPERVISOR);
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private AssetMerger merger;
+    private Asset asset;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        merger = new AssetMerger(userRepository, meterRegistry);
+
+        asset = new Asset();
+        asset.setId(100L);
+        asset.setOrganization(organization(1L));
+        asset.setName("Forklift 1");
+        asset.setStatus(AssetStatus.ACTIVE);
+        Map<String, Object> customAttributes = new HashMap<>();
+        customAttributes.put("fuel", "LPG");
+        customAttributes.put("colour", "yellow");
+        asset.setCustomAttributes(customAttributes);
+        asset.setVersion(3);
+    }
+
+    @Test
+    void testChangesAtTheBaseVersionApplyAsIs() {
+        // At the base version even a stale base value applies: nothing can have happened since the client's read
+        merger.merge(asset, new MergeAssetRequest(3,
+                new FieldChange<>("Forklift one", "Forklift A"),
+                new FieldChange<>("ACTIVE", "UNDER_MAINTENANCE"),
+                null,
+                Map.of("fuel", new FieldChange<>("LPG", "diesel"))), SUPERVISOR);
+
+        assertThat(asset.getName()).isEqualTo("Forklift A");
+        assertThat(asset.getStatus()).isEqualTo(AssetStatus.UNDER_MAINTENANCE);
+        assertThat(asset.getCustomAttributes()).isEqualTo(Map.of("fuel", "diesel", "colour", "yellow"));
+        assertThat(mergeCount("clean")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testSameEditOnBothSidesIsANoOp() {
+        asset.setVersion(4);
+        asset.setName("Forklift A"); // Someone else already made the client's edit
+
+        merger.merge(asset, new MergeAssetRequest(3,
+                new FieldChange<>("Forklift 1", "Forklift A"),
+                new FieldChange<>("ACTIVE", "INACTIVE"),
+                null,
+                null), SUPERVISOR);
+
+        assertThat(asset.getName()).isEqualTo("Forklift A");
+        assertThat(asset.getStatus()).isEqualTo(AssetStatus.INACTIVE);
+        assertThat(mergeCount("merged")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testCollidingChangesAreRejectedWithoutApplyingAny() {
+        asset.setVersion(4);
+        asset.setName("Forklift B");
+
+        assertThatThrownBy(() -> merger.merge(asset, new MergeAssetRequest(3,
+                new FieldChange<>("Forklift 1", "Forklift A"),
+                new FieldChange<>("ACTIVE", "INACTIVE"),
+                null,
+                Map.of("colour", new FieldChange<>("red", "blue"))), SUPERVISOR))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("name, customAttributes.colour");
+
+        assertThat(asset.getName()).isEqualTo("Forklift B");
+        assertThat(asset.getStatus()).isEqualTo(AssetStatus.ACTIVE);
+        assertThat(asset.getCustomAttributes()).isEqualTo(Map.of("fuel", "LPG", "colour", "yellow"));
+        assertThat(mergeCount("conflict")).isEqualTo(1.0);
+    }
+
+    @Test
+    void testNullAttributeValueRemovesTheKey() {
+        asset.setVersion(4);
+
+        merger.merge(asset, new MergeAssetRequest(3, null, null, null,
+                Map.of("colour", new FieldChange<>("yellow", null))), SUPERVISOR);
+
+        assertThat(asset.getCustomAttributes()).isEqualTo(Map.of("fuel", "LPG"));
+    }
+
+    @Test
+    void testAssigneeMustBelongToTheOrganization() {
+        User colleague = user(7L, 1L);
+        User outsider = user(8L, 2L);
+        Mockito.when(userRepository.findById(7L)).thenReturn(Optional.of(colleague));
+        Mockito.when(userRepository.findById(8L)).thenReturn(Optional.of(outsider));
+
+        assertThatThrownBy(() -> merger.merge(asset, new MergeAssetRequest(3, null, null,
+                new FieldChange<>(null, 8L), null), SUPERVISOR))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(asset.getAssignedTo()).isNull();
+
+        merger.merge(asset, new MergeAssetRequest(3, null, null, new FieldChange<>(null, 7L), null), SUPERVISOR);
+        assertThat(asset.getAssignedTo()).isSameAs(colleague);
+    }
+
+    private double mergeCount(String outcome) {
+        return meterRegistry.get("safework.assets.merges").tag("outcome", outcome).counter().count();
+    }
+
+    private static Organization organization(Long id) {
+        Organization organization = new Organization();
+        organization.setId(id);
+        return organization;
+    }
+
+    private static User user(Long id, Long organizationId) {
+        User user = new User();
+        user.setId(id);
+        user.setOrganization(organization(organizationId));
+        return user;
+    }
+}
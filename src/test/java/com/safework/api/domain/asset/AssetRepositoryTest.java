@@ -1,25 +1,36 @@
 package com.safework.api.domain.asset;
 
+import com.safework.api.domain.asset.dto.AssetDto;
+import com.safework.api.domain.asset.dto.AssetSearchDocument;
 import com.safework.api.domain.asset.model.*;
+import com.safework.api.domain.asset.repository.AssetRepository;
 import com.safework.api.domain.department.model.Department;
 import com.safework.api.domain.location.model.Location;
 import com.safework.api.domain.maintenance.model.FrequencyUnit;
 import com.safework.api.domain.maintenance.model.MaintenanceSchedule;
 import com.safework.api.domain.organization.model.Organization;
 import com.safework.api.domain.supplier.model.Supplier;
+import com.safework.api.domain.util.TimeOrderedIdAllocator;
 import com.safework.api.domain.user.model.User;
 import com.safework.api.domain.user.model.UserRole;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.PersistenceException;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -28,6 +39,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -37,6 +49,9 @@ public class AssetRepositoryTest {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private AssetRepository assetRepository;
+
     private Organization organization;
     private AssetType assetType;
     private User user;
@@ -336,6 +351,29 @@ public class AssetRepositoryTest {
         assertThat(asset.getVersion()).isEqualTo(2);
     }
 
+    @Test
+    void testAssetTypeSchemaVersionRejectsStaleSchemaEdits() {
+        assertThat(assetType.getSchemaVersion()).isEqualTo(0);
+
+        assetType.setAttributeSchema(Map.of("attributes", Map.of("fuel", Map.of("type", "string"))));
+        entityManager.flush();
+        assertThat(assetType.getSchemaVersion()).isEqualTo(1);
+
+        // An edit based on the schema before that change
+        AssetType stale = new AssetType();
+        stale.setId(assetType.getId());
+        stale.setName(assetType.getName());
+        stale.setOrganization(organization);
+        stale.setAttributeSchema(Map.of("attributes", Map.of("colour", Map.of("type", "string"))));
+        stale.setSchemaVersion(0);
+        entityManager.clear();
+
+        assertThatThrownBy(() -> {
+            entityManager.merge(stale);
+            entityManager.flush();
+        }).isInstanceOf(OptimisticLockException.class);
+    }
+
     @Test
     void testAssetJsonCustomAttributes() {
         Asset asset = new Asset();
@@ -487,4 +525,201 @@ public class AssetRepositoryTest {
         assertThat(operationsAssets).hasSize(1);
         assertThat(operationsAssets.get(0).getAssetTag()).isEqualTo("DEPT-001");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testKeysetPaginationWalksAssetsInIdOrder() {
+        Organization otherOrganization = new Organization();
+        otherOrganization.setName("Other Organization");
+        entityManager.persist(otherOrganization);
+
+        for (int i = 1; i <= 5; i++) {
+            Asset asset = new Asset();
+            asset.setAssetTag("KEYSET-00" + i);
+            asset.setName("Keyset Asset " + i);
+            asset.setOrganization(organization);
+            asset.setAssetType(assetType);
+            asset.setStatus(AssetStatus.ACTIVE);
+            entityManager.persist(asset);
+        }
+        Asset foreignAsset = new Asset();
+        foreignAsset.setAssetTag("KEYSET-OTHER");
+        foreignAsset.setName("Other Tenant Asset");
+        foreignAsset.setOrganization(otherOrganization);
+        foreignAsset.setAssetType(assetType);
+        foreignAsset.setStatus(AssetStatus.ACTIVE);
+        entityManager.persist(foreignAsset);
+        entityManager.flush();
+        entityManager.clear();
+
+        Slice<AssetDto> first = assetRepository.findDtosByOrganizationIdAfter(
+                organization.getId(), 0L, PageRequest.ofSize(2));
+        assertThat(first.getContent()).extracting(AssetDto::assetTag)
+            .containsExactly("KEYSET-001", "KEYSET-002");
+        assertThat(first.hasNext()).isTrue();
+
+        Long lastSeen = first.getContent().get(1).id();
+        Slice<AssetDto> rest = assetRepository.findDtosByOrganizationIdAfter(
+                organization.getId(), lastSeen, PageRequest.ofSize(10));
+        assertThat(rest.getContent()).extracting(AssetDto::assetTag)
+            .containsExactly("KEYSET-003", "KEYSET-004", "KEYSET-005");
+        assertThat(rest.hasNext()).isFalse();
+    }
+
+    @Test
+    void testAssetDtoProjectionReadsForeignKeyColumns() {
+        Asset assigned = new Asset();
+        assigned.setAssetTag("DTO-001");
+        assigned.setName("Assigned Asset");
+        assigned.setQrCodeId("QR-DTO-001");
+        assigned.setOrganization(organization);
+        assigned.setAssetType(assetType);
+        assigned.setAssignedTo(user);
+        assigned.setStatus(AssetStatus.ACTIVE);
+        assigned.setCustomAttributes(Map.of("capacity", 1500));
+
+        Asset unassigned = new Asset();
+        unassigned.setAssetTag("DTO-002");
+        unassigned.setName("Unassigned Asset");
+        unassigned.setOrganization(organization);
+        unassigned.setAssetType(assetType);
+        unassigned.setStatus(AssetStatus.UNDER_MAINTENANCE);
+
+        entityManager.persist(assigned);
+        entityManager.persist(unassigned);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<AssetDto> page = assetRepository.findDtosByOrganizationId(organization.getId(), PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).containsExactlyInAnyOrder(
+            new AssetDto(assigned.getId(), "DTO-001", "Assigned Asset", "QR-DTO-001", "ACTIVE",
+                organization.getId(), user.getId(), 0),
+            new AssetDto(unassigned.getId(), "DTO-002", "Unassigned Asset", null, "UNDER_MAINTENANCE",
+                organization.getId(), null, 0));
+        // Nothing was hydrated into the persistence context
+        assertThat(entityManager.unwrap(SessionImplementor.class)
+            .getPersistenceContextInternal().getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    void testQrCodeLookupIsScopedToOrganization() {
+        Organization otherOrganization = new Organization();
+        otherOrganization.setName("Scan Other Organization");
+        entityManager.persist(otherOrganization);
+
+        Asset asset = new Asset();
+        asset.setAssetTag("SCAN-001");
+        asset.setName("Scannable Asset");
+        asset.setQrCodeId("QR-SCAN-001");
+        asset.setOrganization(organization);
+        asset.setAssetType(assetType);
+        asset.setStatus(AssetStatus.ACTIVE);
+        entityManager.persist(asset);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(assetRepository.findDtoByOrganizationIdAndQrCodeId(organization.getId(), "QR-SCAN-001"))
+            .get().extracting(AssetDto::id).isEqualTo(asset.getId());
+        assertThat(assetRepository.findDtoByOrganizationIdAndQrCodeId(otherOrganization.getId(), "QR-SCAN-001"))
+            .isEmpty();
+    }
+
+    @Test
+    void testAssetIdsAreAssignedInTimeOrderBeforeInsert() {
+        Asset first = new Asset();
+        first.setAssetTag("ID-001");
+        first.setName("First");
+        first.setOrganization(organization);
+        first.setAssetType(assetType);
+        first.setStatus(AssetStatus.ACTIVE);
+
+        Asset second = new Asset();
+        second.setAssetTag("ID-002");
+        second.setName("Second");
+        second.setOrganization(organization);
+        second.setAssetType(assetType);
+        second.setStatus(AssetStatus.ACTIVE);
+
+        entityManager.persist(first);
+        entityManager.persist(second);
+
+        // Ids exist before any flush, which is what lets Hibernate batch the inserts
+        assertThat(first.getId()).isNotNull();
+        assertThat(second.getId()).isGreaterThan(first.getId());
+        assertThat(second.getId()).isLessThan(1L << 53);
+        assertThat(TimeOrderedIdAllocator.timestampOf(first.getId()))
+            .isBetween(Instant.now().minus(Duration.ofMinutes(1)), Instant.now());
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(entityManager.find(Asset.class, second.getId()).getAssetTag()).isEqualTo("ID-002");
+    }
+
+    @Test
+    void testConditionalGetQueryReadsVersion() {
+        Organization otherOrganization = new Organization();
+        otherOrganization.setName("ETag Other Organization");
+        entityManager.persist(otherOrganization);
+
+        Asset asset = new Asset();
+        asset.setAssetTag("ETAG-001");
+        asset.setName("Tagged Asset");
+        asset.setOrganization(organization);
+        asset.setAssetType(assetType);
+        asset.setStatus(AssetStatus.ACTIVE);
+        entityManager.persist(asset);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(assetRepository.findVersionByIdAndOrganizationId(asset.getId(), organization.getId())).contains(0);
+        assertThat(assetRepository.findVersionByIdAndOrganizationId(asset.getId(), otherOrganization.getId())).isEmpty();
+
+        Asset loaded = entityManager.find(Asset.class, asset.getId());
+        loaded.setName("Renamed Asset");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(assetRepository.findVersionByIdAndOrganizationId(asset.getId(), organization.getId())).contains(1);
+        assertThat(assetRepository.countByOrganizationId(otherOrganization.getId())).isZero();
+    }
+
+    @Test
+    void testSearchDocumentsJoinTypeAndLocationNames() {
+        Asset located = new Asset();
+        located.setAssetTag("SEARCH-001");
+        located.setName("Located Forklift");
+        located.setQrCodeId("QR-SEARCH-001");
+        located.setOrganization(organization);
+        located.setAssetType(assetType);
+        located.setLocation(location);
+        located.setStatus(AssetStatus.ACTIVE);
+        entityManager.persist(located);
+
+        Asset unlocated = new Asset();
+        unlocated.setAssetTag("SEARCH_002");
+        unlocated.setName("Loose Ladder");
+        unlocated.setOrganization(organization);
+        unlocated.setAssetType(assetType);
+        unlocated.setStatus(AssetStatus.ACTIVE);
+        entityManager.persist(unlocated);
+        entityManager.flush();
+        entityManager.clear();
+
+        Slice<AssetSearchDocument> documents = assetRepository.findSearchDocumentsByOrganizationIdAfter(
+            organization.getId(), 0L, PageRequest.ofSize(10));
+        assertThat(documents.getContent())
+            .extracting(AssetSearchDocument::assetTag, AssetSearchDocument::assetTypeName, AssetSearchDocument::locationName)
+            .containsExactly(
+                tuple("SEARCH-001", "Equipment", "Warehouse A"),
+                tuple("SEARCH_002", "Equipment", null));
+
+        assertThat(assetRepository.findSearchDocumentsByOrganizationIdAndIdIn(organization.getId(), List.of(unlocated.getId())))
+            .extracting(AssetSearchDocument::id).containsExactly(unlocated.getId());
+
+        // '_' is matched literally, not as a wildcard
+        Page<AssetDto> prefixed = assetRepository.findDtosByOrganizationIdAndPrefix(
+            organization.getId(), "SEARCH!_%", PageRequest.ofSize(10));
+        assertThat(prefixed.getContent()).extracting(AssetDto::assetTag).containsExactly("SEARCH_002");
+    }
+}
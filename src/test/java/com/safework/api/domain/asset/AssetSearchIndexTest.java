@@ -0,0 +1,75 @@
+package com.safework.api.domain.asset;
+
+import com.safework.api.domain.asset.dto.AssetSearchDocument;
+import com.safework.api.domain.asset.service.AssetSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the in-memory asset search index.
+ */
+public class AssetSearchIndexTest {
+
+    private AssetSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AssetSearchIndex();
+        index.put(new AssetSearchDocument(1L, "FL-001", "Forklift North", "QR-1001", "Forklift", "Warehouse Süd"));
+        index.put(new AssetSearchDocument(2L, "FL-002", "Spare forklift", "QR-1002", "Forklift", "Yard"));
+        index.put(new AssetSearchDocument(3L, "LT-003", "Laptop", "QR-2001", "Laptop", "Head Office"));
+    }
+
+    @Test
+    void testSubstringMatchesAreRankedByField() {
+        AssetSearchIndex.Result result = index.search("fork", 10);
+
+        // Start of the name beats start of a later word in the name
+        assertThat(result.assetIds()).containsExactly(1L, 2L);
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(index.search("-00", 10).assetIds()).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("qr-2001", 10).assetIds()).containsExactly(3L);
+    }
+
+    @Test
+    void testEveryWordMustMatchSomeField() {
+        assertThat(index.search("forklift yard", 10).assetIds()).containsExactly(2L);
+        assertThat(index.search("forklift office", 10).assetIds()).isEmpty();
+    }
+
+    @Test
+    void testShortWordsMatchWordStartsAndAccentsAreIgnored() {
+        assertThat(index.search("he", 10).assetIds()).containsExactly(3L);
+        assertThat(index.search("or", 10).assetIds()).isEmpty();
+        assertThat(index.search("sud", 10).assetIds()).containsExactly(1L);
+    }
+
+    @Test
+    void testUpdatesAndRemovalsAreVisibleImmediately() {
+        index.put(new AssetSearchDocument(2L, "FL-002", "Reach truck", "QR-1002", "Forklift", "Yard"));
+        index.remove(3L);
+
+        assertThat(index.search("spare", 10).assetIds()).isEmpty();
+        assertThat(index.search("reach", 10).assetIds()).containsExactly(2L);
+        assertThat(index.search("laptop", 10).assetIds()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testLimitKeepsBestMatchesAndCountsAll() {
+        for (long id = 10; id < 3010; id++) {
+            index.put(new AssetSearchDocument(id, "PAL-" + id, "Pallet jack " + id, "QR-P" + id, "Pallet jack", "Dock"));
+        }
+        // Churn enough to trigger a rebuild, then check nothing live was lost
+        for (long id = 10; id < 2010; id++) {
+            index.remove(id);
+        }
+
+        AssetSearchIndex.Result result = index.search("pallet", 5);
+        assertThat(result.total()).isEqualTo(1000);
+        assertThat(result.assetIds()).containsExactly(2010L, 2011L, 2012L, 2013L, 2014L);
+        assertThat(index.search("pal-3009", 5).assetIds()).containsExactly(3009L);
+    }
+}
@@ -0,0 +1,95 @@
+package com.safework.api.domain.checklist;
+
+import com.safework.api.domain.checklist.model.Checklist;
+import com.safework.api.domain.checklist.model.ChecklistStatus;
+import com.safework.api.domain.checklist.repository.ChecklistRepository;
+import com.safework.api.domain.checklist.service.ChecklistTemplate;
+import com.safework.api.domain.checklist.service.ChecklistTemplateCache;
+import com.safework.api.domain.organization.model.Organization;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the version-keyed checklist template cache.
+ */
+public class ChecklistTemplateCacheTest {
+
+    private static final Long ORGANIZATION_ID = 1L;
+    private static final Long CHECKLIST_ID = 10L;
+
+    private ChecklistRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private ChecklistTemplateCache cache;
+    private Checklist checklist;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = new Organization();
+        organization.setId(ORGANIZATION_ID);
+        checklist = new Checklist();
+        checklist.setId(CHECKLIST_ID);
+        checklist.setOrganization(organization);
+        checklist.setName("Forklift daily check");
+        checklist.setStatus(ChecklistStatus.ACTIVE);
+        checklist.setTemplateData(template("GS-001"));
+        checklist.setVersion(0);
+
+        repository = Mockito.mock(ChecklistRepository.class);
+        Mockito.when(repository.findVersionByIdAndOrganizationId(Mockito.anyLong(), Mockito.anyLong())).thenReturn(Optional.empty());
+        Mockito.when(repository.findVersionByIdAndOrganizationId(CHECKLIST_ID, ORGANIZATION_ID))
+                .thenAnswer(invocation -> Optional.of(checklist.getVersion()));
+        Mockito.when(repository.findById(CHECKLIST_ID)).thenAnswer(invocation -> Optional.of(checklist));
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ChecklistTemplateCache(repository, meterRegistry, DataSize.ofMegabytes(1), Duration.ofHours(1));
+    }
+
+    @Test
+    void testRepeatedLookupIsServedFromCache() {
+        ChecklistTemplate first = cache.get(ORGANIZATION_ID, CHECKLIST_ID).orElseThrow();
+        ChecklistTemplate second = cache.get(ORGANIZATION_ID, CHECKLIST_ID).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        Mockito.verify(repository, Mockito.times(1)).findById(CHECKLIST_ID);
+        assertThat(meterRegistry.get("safework.checklists.template-cache.bytes").gauge().value())
+                .isEqualTo((double) first.estimatedBytes());
+    }
+
+    @Test
+    void testVersionBumpMissesAndReloads() {
+        ChecklistTemplate original = cache.get(ORGANIZATION_ID, CHECKLIST_ID).orElseThrow();
+
+        checklist.setTemplateData(template("GS-002"));
+        checklist.setVersion(1);
+        ChecklistTemplate reloaded = cache.get(ORGANIZATION_ID, CHECKLIST_ID).orElseThrow();
+
+        assertThat(reloaded).isNotSameAs(original);
+        assertThat(reloaded.version()).isEqualTo(1);
+        assertThat(reloaded.compiled().itemCount()).isEqualTo(1);
+        assertThat(reloaded.templateData()).isEqualTo(template("GS-002"));
+        Mockito.verify(repository, Mockito.times(2)).findById(CHECKLIST_ID);
+    }
+
+    @Test
+    void testOtherOrganizationGetsNothing() {
+        cache.get(ORGANIZATION_ID, CHECKLIST_ID).orElseThrow();
+
+        assertThat(cache.get(2L, CHECKLIST_ID)).isEmpty();
+    }
+
+    private static Map<String, Object> template(String itemId) {
+        return Map.of("sections", List.of(Map.of(
+                "name", "General",
+                "items", List.of(Map.of("id", itemId, "question", "Brakes work?", "type", "boolean")))));
+    }
+}
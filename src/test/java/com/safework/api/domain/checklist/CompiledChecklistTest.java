@@ -0,0 +1,98 @@
+package com.safework.api.domain.checklist;
+
+import com.safework.api.domain.checklist.service.CompiledChecklist;
+import com.safework.api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for compiling checklist templates and validating reports against them.
+ */
+public class CompiledChecklistTest {
+
+    private static final CompiledChecklist FORKLIFT = CompiledChecklist.compile(Map.of("sections", List.of(
+            Map.of("name", "General", "items", List.of(
+                    Map.of("id", "GS-001", "question", "Brakes work?", "type", "boolean", "required", true),
+                    Map.of("id", "GS-002", "question", "Tyre condition", "type", "rating", "scale", 3))),
+            Map.of("name", "Load", "items", List.of(
+                    Map.of("id", "LD-001", "question", "Fuel", "type", "choice", "options", List.of("LPG", "diesel")),
+                    Map.of("id", "LD-002", "question", "Hours", "type", "number"),
+                    Map.of("id", "LD-003", "question", "Notes", "type", "text"))))));
+
+    @Test
+    void testItemsAcrossSectionsAreCompiled() {
+        assertThat(FORKLIFT.itemCount()).isEqualTo(5);
+    }
+
+    @Test
+    void testMatchingReportIsAccepted() {
+        FORKLIFT.validate(Map.of("responses", Map.of(
+                "GS-001", true, "GS-002", 3, "LD-001", "diesel", "LD-002", 1520.5, "LD-003", "Mast chain oiled"),
+                "notes", "free-form fields are not checked"));
+    }
+
+    @Test
+    void testRatingsMustLieWithinTheScale() {
+        FORKLIFT.validate(Map.of("responses", Map.of("GS-001", true, "GS-002", 1)));
+
+        assertThatThrownBy(() -> FORKLIFT.validate(Map.of("responses", Map.of("GS-001", true, "GS-002", 4))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("invalid rating answer for item GS-002");
+        assertThatThrownBy(() -> FORKLIFT.validate(Map.of("responses", Map.of("GS-001", true, "GS-002", 0))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("invalid rating answer for item GS-002");
+    }
+
+    @Test
+    void testChoicesMustBeOneOfTheOptions() {
+        assertThatThrownBy(() -> FORKLIFT.validate(Map.of("responses", Map.of("GS-001", true, "LD-001", "petrol"))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("invalid choice answer for item LD-001");
+    }
+
+    @Test
+    void testRequiredItemsMustBeAnswered() {
+        assertThatThrownBy(() -> FORKLIFT.validate(Map.of("responses", Map.of("LD-003", "ok"))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("missing answer for required item GS-001");
+        assertThatThrownBy(() -> FORKLIFT.validate(Map.of()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("missing answer for required item GS-001");
+    }
+
+    @Test
+    void testUnknownResponseIdsAreRejected() {
+        assertThatThrownBy(() -> FORKLIFT.validate(Map.of("responses", Map.of("GS-001", true, "GS-999", true))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("unknown item GS-999");
+    }
+
+    @Test
+    void testMalformedTemplatesAreRejected() {
+        assertThatThrownBy(() -> CompiledChecklist.compile(Map.of("sections", List.of(
+                Map.of("items", List.of(Map.of("id", "GS-001", "type", "boolean"))),
+                Map.of("items", List.of(Map.of("id", "GS-001", "type", "text")))))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Duplicate checklist item id: GS-001");
+        assertThatThrownBy(() -> CompiledChecklist.compile(item(Map.of("id", "GS-001", "type", "date"))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("unknown type");
+        assertThatThrownBy(() -> CompiledChecklist.compile(item(Map.of("id", "GS-001", "type", "rating", "scale", 0))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("positive integer \"scale\"");
+        assertThatThrownBy(() -> CompiledChecklist.compile(item(Map.of("id", "LD-001", "type", "choice", "options", List.of()))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("non-empty \"options\"");
+        assertThatThrownBy(() -> CompiledChecklist.compile(Map.of("name", "No sections")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static Map<String, Object> item(Map<String, ?> item) {
+        return Map.of("sections", List.of(Map.of("items", List.of(item))));
+    }
+}
@@ -0,0 +1,96 @@
+package com.safework.api.domain.idempotency;
+
+import com.safework.api.domain.idempotency.model.IdempotencyRecord;
+import com.safework.api.domain.idempotency.repository.IdempotencyRecordRepository;
+import com.safework.api.domain.idempotency.service.IdempotencyStore;
+import com.safework.api.domain.idempotency.service.StoredResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Unit tests for the in-memory idempotency store and its spill to the database.
+ */
+public class IdempotencyStoreTest {
+
+    private IdempotencyRecordRepository repository;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(IdempotencyRecordRepository.class);
+        Mockito.when(repository.findById(anyString())).thenReturn(Optional.empty());
+        // 64 stripes of one entry each
+        store = new IdempotencyStore(repository, new SimpleMeterRegistry(), Duration.ofHours(1), 64, DataSize.ofBytes(16));
+    }
+
+    @Test
+    void testCompletedRequestIsReplayed() {
+        assertThat(store.claim("1:key", "fp").outcome()).isEqualTo(IdempotencyStore.Outcome.PROCEED);
+        store.complete("1:key", "fp", response("{}"));
+
+        IdempotencyStore.Claim retry = store.claim("1:key", "fp");
+        assertThat(retry.outcome()).isEqualTo(IdempotencyStore.Outcome.REPLAY);
+        assertThat(retry.response().status()).isEqualTo(201);
+        assertThat(new String(retry.response().body(), StandardCharsets.UTF_8)).isEqualTo("{}");
+    }
+
+    @Test
+    void testConcurrentAndMismatchedRequestsAreRefused() {
+        store.claim("1:key", "fp");
+
+        assertThat(store.claim("1:key", "fp").outcome()).isEqualTo(IdempotencyStore.Outcome.IN_FLIGHT);
+        assertThat(store.claim("1:key", "other").outcome()).isEqualTo(IdempotencyStore.Outcome.MISMATCH);
+    }
+
+    @Test
+    void testAbandonedKeyCanBeClaimedAgain() {
+        store.claim("1:key", "fp");
+        store.abandon("1:key");
+
+        assertThat(store.claim("1:key", "fp").outcome()).isEqualTo(IdempotencyStore.Outcome.PROCEED);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLargeResponsesSpillToTheDatabase() {
+        store.claim("1:key", "fp");
+        store.complete("1:key", "fp", response("a response body over sixteen bytes"));
+
+        ArgumentCaptor<List<IdempotencyRecord>> spilled = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(repository).saveAll(spilled.capture());
+        assertThat(spilled.getValue()).extracting(IdempotencyRecord::getIdempotencyKey).containsExactly("1:key");
+
+        // Replayed from the table once it is no longer in memory
+        IdempotencyRecord record = spilled.getValue().get(0);
+        Mockito.when(repository.findById("1:key")).thenReturn(Optional.of(record));
+        assertThat(store.claim("1:key", "fp").outcome()).isEqualTo(IdempotencyStore.Outcome.REPLAY);
+    }
+
+    @Test
+    void testEvictedEntriesSpillToTheDatabase() {
+        for (int i = 0; i < 500; i++) {
+            store.claim("1:key-" + i, "fp");
+            store.complete("1:key-" + i, "fp", response("{}"));
+        }
+
+        // With one entry per stripe, most completed entries were pushed out to the table
+        Mockito.verify(repository, Mockito.atLeastOnce()).saveAll(anyList());
+    }
+
+    private static StoredResponse response(String body) {
+        return new StoredResponse(201, "application/json", null, null, body.getBytes(StandardCharsets.UTF_8));
+    }
+}
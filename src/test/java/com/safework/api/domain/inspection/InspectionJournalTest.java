@@ -0,0 +1,117 @@
+package com.safework.api.domain.inspection;
+
+import com.safework.api.domain.inspection.service.InspectionJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the memory-mapped inspection journal.
+ */
+public class InspectionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordsAreHandedOutInAppendOrder() throws Exception {
+        try (InspectionJournal journal = new InspectionJournal(directory, 64, 4, false)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(bytes("record-" + i));
+            }
+
+            // Records span several segments and are still returned in order
+            assertThat(payloads(journal.poll(3, 0, TimeUnit.MILLISECONDS))).containsExactly("record-0", "record-1", "record-2");
+            assertThat(payloads(journal.poll(10, 0, TimeUnit.MILLISECONDS))).containsExactly("record-3", "record-4");
+            assertThat(journal.poll(10, 0, TimeUnit.MILLISECONDS)).isEmpty();
+            assertThat(journal.backlog()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void testUncompletedRecordsAreReplayedAfterReopening() throws Exception {
+        try (InspectionJournal journal = new InspectionJournal(directory, 1024, 4, false)) {
+            journal.append(bytes("done"));
+            journal.append(bytes("taken"));
+            journal.append(bytes("waiting"));
+            journal.poll(2, 0, TimeUnit.MILLISECONDS);
+        }
+
+        // Nothing was completed, so everything comes back, including the records that were taken
+        try (InspectionJournal journal = new InspectionJournal(directory, 1024, 4, false)) {
+            assertThat(journal.backlog()).isEqualTo(3);
+            List<InspectionJournal.Record> records = journal.poll(10, 0, TimeUnit.MILLISECONDS);
+            assertThat(payloads(records)).containsExactly("done", "taken", "waiting");
+
+            journal.complete(records);
+            assertThat(journal.backlog()).isZero();
+        }
+
+        // Recovered segments are sealed, so completing their records deleted them
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void testTornRecordEndsTheSegment() throws Exception {
+        try (InspectionJournal journal = new InspectionJournal(directory, 1024, 4, false)) {
+            journal.append(bytes("intact"));
+            journal.append(bytes("torn"));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        // Corrupt the second record's payload, as a crash halfway through a write would
+        byte[] content = Files.readAllBytes(segment);
+        int secondPayload = 8 + "intact".length() + 8;
+        content[secondPayload] ^= 0x7F;
+        Files.write(segment, content);
+
+        try (InspectionJournal journal = new InspectionJournal(directory, 1024, 4, false)) {
+            assertThat(payloads(journal.poll(10, 0, TimeUnit.MILLISECONDS))).containsExactly("intact");
+        }
+    }
+
+    @Test
+    void testAppendFailsWhenEverySegmentIsInUse() throws Exception {
+        try (InspectionJournal journal = new InspectionJournal(directory, 32, 2, false)) {
+            journal.append(bytes("first-segment"));
+            journal.append(bytes("second-segmnt"));
+
+            assertThatThrownBy(() -> journal.append(bytes("third-segment")))
+                    .isInstanceOf(InspectionJournal.JournalFullException.class);
+
+            // Completing the sealed first segment frees room for a new one
+            journal.complete(journal.poll(1, 0, TimeUnit.MILLISECONDS));
+            journal.append(bytes("third-segment"));
+            assertThat(journal.backlog()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testOversizedRecordIsRejected() throws Exception {
+        try (InspectionJournal journal = new InspectionJournal(directory, 32, 2, false)) {
+            assertThatThrownBy(() -> journal.append(new byte[32]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> payloads(List<InspectionJournal.Record> records) {
+        return records.stream().map(record -> new String(record.payload(), StandardCharsets.UTF_8)).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.safework.api.domain.sync;
+
+import com.safework.api.domain.sync.model.SyncChange;
+import com.safework.api.domain.sync.model.SyncCursor;
+import com.safework.api.domain.sync.model.SyncEntityType;
+import com.safework.api.domain.sync.model.SyncTombstone;
+import com.safework.api.domain.sync.repository.SyncChangeRepository;
+import com.safework.api.domain.sync.repository.SyncCursorRepository;
+import com.safework.api.domain.sync.repository.SyncTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional
+public class SyncChangeRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private SyncChangeRepository syncChangeRepository;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Autowired
+    private SyncCursorRepository syncCursorRepository;
+
+    @Test
+    void testChangeFeedIsScopedToOrganizationAndOrderedById() {
+        SyncChange first = change(1L, SyncEntityType.ASSET, 10L);
+        change(2L, SyncEntityType.ASSET, 20L);
+        SyncChange second = change(1L, SyncEntityType.ISSUE, 30L);
+        SyncChange third = change(1L, SyncEntityType.ASSET, 40L);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(first.getId()).isLessThan(second.getId());
+        assertThat(second.getId()).isLessThan(third.getId());
+
+        Slice<SyncChange> page = syncChangeRepository.findByOrganizationIdBetween(
+                1L, 0L, Long.MAX_VALUE, PageRequest.ofSize(2));
+        assertThat(page.getContent()).extracting(SyncChange::getEntityId).containsExactly(10L, 30L);
+        assertThat(page.hasNext()).isTrue();
+
+        Slice<SyncChange> rest = syncChangeRepository.findByOrganizationIdBetween(
+                1L, second.getId(), Long.MAX_VALUE, PageRequest.ofSize(2));
+        assertThat(rest.getContent()).extracting(SyncChange::getEntityId).containsExactly(40L);
+        assertThat(rest.hasNext()).isFalse();
+
+        // Entries at or above the upper bound are held back
+        Slice<SyncChange> bounded = syncChangeRepository.findByOrganizationIdBetween(
+                1L, 0L, third.getId(), PageRequest.ofSize(10));
+        assertThat(bounded.getContent()).extracting(SyncChange::getId).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void testFeedHeadIsTheNewestIdPerOrganization() {
+        change(1L, SyncEntityType.ASSET, 10L);
+        SyncChange newest = change(1L, SyncEntityType.CHECKLIST, 20L);
+        SyncTombstone deleted = tombstone(2L, 30L);
+        entityManager.flush();
+
+        assertThat(syncChangeRepository.findMaxIdByOrganizationId(1L)).contains(newest.getId());
+        assertThat(syncTombstoneRepository.findMaxIdByOrganizationId(1L)).isEmpty();
+        assertThat(syncTombstoneRepository.findMaxIdByOrganizationId(2L)).contains(deleted.getId());
+        assertThat(syncChangeRepository.findMaxIdByOrganizationId(3L)).isEmpty();
+    }
+
+    @Test
+    void testTombstonesArePrunedUpToSlowestDevice() {
+        SyncTombstone seenByAll = tombstone(1L, 10L);
+        SyncTombstone seenBySome = tombstone(1L, 20L);
+        SyncTombstone untracked = tombstone(2L, 30L);
+        cursor(1L, "fast-device", seenBySome.getId());
+        cursor(1L, "slow-device", seenByAll.getId());
+        entityManager.flush();
+
+        var oldest = syncCursorRepository.findOldestPositions();
+        assertThat(oldest).hasSize(1);
+        assertThat(oldest.get(0).getPosition()).isEqualTo(seenByAll.getId());
+
+        assertThat(syncTombstoneRepository.deleteByOrganizationIdUpTo(1L, oldest.get(0).getPosition())).isEqualTo(1);
+        assertThat(syncTombstoneRepository.deleteUntrackedUpTo(untracked.getId())).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(syncTombstoneRepository.findAll()).extracting(SyncTombstone::getEntityId).containsExactly(20L);
+        assertThat(syncTombstoneRepository.findAll().get(0).getDeletedAt()).isNotNull();
+    }
+
+    private SyncChange change(Long organizationId, SyncEntityType entityType, Long entityId) {
+        SyncChange change = new SyncChange();
+        change.setOrganizationId(organizationId);
+        change.setEntityType(entityType);
+        change.setEntityId(entityId);
+        entityManager.persist(change);
+        return change;
+    }
+
+    private SyncTombstone tombstone(Long organizationId, Long entityId) {
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setOrganizationId(organizationId);
+        tombstone.setEntityType(SyncEntityType.ASSET);
+        tombstone.setEntityId(entityId);
+        tombstone.setVersion(3);
+        entityManager.persist(tombstone);
+        return tombstone;
+    }
+
+    private void cursor(Long organizationId, String deviceId, long position) {
+        SyncCursor cursor = new SyncCursor();
+        cursor.setOrganizationId(organizationId);
+        cursor.setDeviceId(deviceId);
+        cursor.setUserId(1L);
+        cursor.setPosition(position);
+        cursor.setLastPullAt(LocalDateTime.now());
+        entityManager.persist(cursor);
+    }
+}
@@ -2,15 +2,20 @@ package com.safework.api.domain.user;
 
 import com.safework.api.domain.department.model.Department;
 import com.safework.api.domain.organization.model.Organization;
+import com.safework.api.domain.user.event.UserAccessChangedEvent;
 import com.safework.api.domain.user.model.User;
 import com.safework.api.domain.user.model.UserRole;
+import com.safework.api.domain.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -22,11 +27,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DataJpaTest
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 public class UserRepositoryTest {
 
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private Organization organization;
 
     @BeforeEach
@@ -359,4 +371,59 @@ public class UserRepositoryTest {
         assertThat(updated.getRole()).isEqualTo(UserRole.SUPERVISOR);
         assertThat(updated.getEmail()).isEqualTo("update@example.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRoleChangePublishesAccessChangedEvent() {
+        User user = new User();
+        user.setEmail("promote@example.com");
+        user.setName("Promote Me");
+        user.setPassword("password");
+        user.setRole(UserRole.INSPECTOR);
+        user.setOrganization(organization);
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        User loaded = userRepository.findByEmail("promote@example.com").orElseThrow();
+        loaded.setName("Renamed Only");
+        userRepository.save(loaded);
+        assertThat(applicationEvents.stream(UserAccessChangedEvent.class)).isEmpty();
+
+        loaded.setRole(UserRole.SUPERVISOR);
+        userRepository.save(loaded);
+
+        assertThat(applicationEvents.stream(UserAccessChangedEvent.class))
+            .containsExactly(new UserAccessChangedEvent(user.getId(), "promote@example.com", "promote@example.com", 1));
+        userRepository.flush();
+        assertThat(loaded.getTokenVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void testSavingDetachedUserPersistsTokenVersionBump() {
+        User user = new User();
+        user.setEmail("detached@example.com");
+        user.setName("Detached");
+        user.setPassword("password");
+        user.setRole(UserRole.SUPERVISOR);
+        user.setOrganization(organization);
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        User detached = userRepository.findByEmail("detached@example.com").orElseThrow();
+        entityManager.detach(detached);
+        detached.setRole(UserRole.INSPECTOR);
+        userRepository.save(detached);
+        userRepository.flush();
+        entityManager.clear();
+
+        assertThat(applicationEvents.stream(UserAccessChangedEvent.class))
+            .containsExactly(new UserAccessChangedEvent(user.getId(), "detached@example.com", "detached@example.com", 1));
+        User reloaded = entityManager.find(User.class, user.getId());
+        assertThat(reloaded.getRole()).isEqualTo(UserRole.INSPECTOR);
+        assertThat(reloaded.getTokenVersion()).isEqualTo(1);
+        assertThat(userRepository.findChangedTokenVersions())
+            .extracting(UserRepository.TokenVersionView::getTokenVersion)
+            .containsExactly(1);
+    }
+}